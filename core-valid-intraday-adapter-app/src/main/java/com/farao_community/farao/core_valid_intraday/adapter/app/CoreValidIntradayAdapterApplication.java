@@ -8,12 +8,14 @@ package com.farao_community.farao.core_valid_intraday.adapter.app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * @author Alexandre Montigny {@literal <alexandre.montigny at rte-france.com>}
  */
 @SuppressWarnings("hideutilityclassconstructor")
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class CoreValidIntradayAdapterApplication {
     public static void main(String[] args) {
         SpringApplication.run(CoreValidIntradayAdapterApplication.class, args);
@@ -6,21 +6,41 @@
  */
 package com.farao_community.farao.core_valid_intraday.adapter.app;
 
+import com.farao_community.farao.core_valid_intraday.adapter.app.dispatch.CoreValidIntradayRequestDispatcher;
+import com.farao_community.farao.core_valid_intraday.adapter.app.dispatch.DispatchedRunIndex;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.CoreValidIntradayRequestMapper;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.PreparedRequest;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.core_valid_intraday.adapter.app.minio.InputPreflightChecker;
+import com.farao_community.farao.core_valid_intraday.adapter.app.minio.PreSignedUrlGenerator;
+import com.farao_community.farao.core_valid_intraday.adapter.app.retry.TaskRetrier;
+import com.farao_community.farao.core_valid_intraday.adapter.app.scheduling.DeferredTaskQueue;
+import com.farao_community.farao.core_valid_intraday.adapter.app.scheduling.PartitionedTaskExecutor;
+import com.farao_community.farao.core_valid_intraday.adapter.app.scheduling.PriorityTaskScheduler;
+import com.farao_community.farao.core_valid_intraday.adapter.app.scheduling.TaskCoalescer;
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
-import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
-import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayFileResource;
 import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayRequest;
-import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
-import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
-import java.time.OffsetDateTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -36,12 +56,41 @@ public class CoreValidIntradayAdapterListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(CoreValidIntradayAdapterListener.class);
     public static final String AUTOMATIC = "automatic";
     public static final String MANUAL = "manual";
-    private final CoreValidIntradayClient coreValidIntradayClient;
-    private final MinioAdapter minioAdapter;
+    private final CoreValidIntradayRequestDispatcher requestDispatcher;
+    private final DispatchedRunIndex dispatchedRunIndex;
+    private final CoreValidIntradayRequestMapper requestMapper;
+    private final InputPreflightChecker inputPreflightChecker;
+    private final PreSignedUrlGenerator preSignedUrlGenerator;
+    private final TaskCoalescer taskCoalescer;
+    private final PartitionedTaskExecutor partitionedExecutor;
+    private final TaskRetrier taskRetrier;
+    private final DeferredTaskQueue deferredTaskQueue;
+    private final PriorityTaskScheduler taskScheduler;
+    private final CoreValidIntradayAdapterMetrics metrics;
+    private final ExecutorService batchExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-    public CoreValidIntradayAdapterListener(final CoreValidIntradayClient coreValidIntradayClient, final MinioAdapter minioAdapter) {
-        this.coreValidIntradayClient = coreValidIntradayClient;
-        this.minioAdapter = minioAdapter;
+    public CoreValidIntradayAdapterListener(final CoreValidIntradayRequestDispatcher requestDispatcher,
+                                            final DispatchedRunIndex dispatchedRunIndex,
+                                            final CoreValidIntradayRequestMapper requestMapper,
+                                            final InputPreflightChecker inputPreflightChecker,
+                                            final PreSignedUrlGenerator preSignedUrlGenerator,
+                                            final TaskCoalescer taskCoalescer,
+                                            final PartitionedTaskExecutor partitionedExecutor,
+                                            final TaskRetrier taskRetrier,
+                                            final DeferredTaskQueue deferredTaskQueue,
+                                            final PriorityTaskScheduler taskScheduler,
+                                            final CoreValidIntradayAdapterMetrics metrics) {
+        this.requestDispatcher = requestDispatcher;
+        this.dispatchedRunIndex = dispatchedRunIndex;
+        this.requestMapper = requestMapper;
+        this.inputPreflightChecker = inputPreflightChecker;
+        this.preSignedUrlGenerator = preSignedUrlGenerator;
+        this.taskCoalescer = taskCoalescer;
+        this.partitionedExecutor = partitionedExecutor;
+        this.taskRetrier = taskRetrier;
+        this.deferredTaskQueue = deferredTaskQueue;
+        this.taskScheduler = taskScheduler;
+        this.metrics = metrics;
     }
 
     @Bean
@@ -54,35 +103,212 @@ public class CoreValidIntradayAdapterListener {
         return this::handleAutoTask;
     }
 
+    @Bean
+    public Consumer<List<TaskDto>> consumeTaskBatch() {
+        return taskDtos -> handleTasks(taskDtos, false);
+    }
+
+    @Bean
+    public Consumer<List<TaskDto>> consumeAutoTaskBatch() {
+        return taskDtos -> handleTasks(taskDtos, true);
+    }
+
     private void handleAutoTask(final TaskDto taskDto) {
-        handleTask(taskDto, this::getAutomaticCoreValidIntradayRequest, AUTOMATIC);
+        taskCoalescer.submit(taskDto, dto -> process(dto, true));
     }
 
     private void handleManualTask(final TaskDto taskDto) {
-        handleTask(taskDto, this::getManualCoreValidIntradayRequest, MANUAL);
+        process(taskDto, false);
     }
 
-    private void handleTask(final TaskDto taskDto,
-                            final Function<TaskDto, CoreValidIntradayRequest> coreValidReqMapper,
-                            final String launchType) {
-        try {
+    private void process(final TaskDto taskDto, final boolean isLaunchedAutomatically) {
+        process(taskDto, isLaunchedAutomatically, dto -> requestMapper.prepare(dto, isLaunchedAutomatically), Map.of());
+    }
+
+    /**
+     * Runs the run request through the processing stages, each of them handing it over right away when disabled:
+     * transient failures are retried, each attempt waits for its turn among the run requests of all launch types
+     * and is then handled on the partition of its timestamp, which keeps it in order with the other run requests of
+     * the same timestamp. Backoff delays and scheduling waits are spent on the listener thread before entering the
+     * partition, so that they never hold back the other timestamps of the partition. When requests are dispatched
+     * asynchronously, the run request leaves its partition and the listener thread as soon as its dispatch has
+     * started, the failures of the dispatch being retried or reported from its completion.
+     *
+     * @param preparer   prepares the run request of the task when it is handled
+     * @param signedUrls pre-signed URLs already available, indexed by MinIO path, the other inputs being signed
+     *                   when the request is built
+     */
+    private void process(final TaskDto taskDto,
+                         final boolean isLaunchedAutomatically,
+                         final Function<TaskDto, PreparedRequest> preparer,
+                         final Map<String, String> signedUrls) {
+        final String launchType = isLaunchedAutomatically ? AUTOMATIC : MANUAL;
+        final Function<TaskDto, CoreValidIntradayRequest> coreValidReqMapper = dto -> getCoreValidIntradayRequest(dto, isLaunchedAutomatically, preparer, signedUrls);
+        taskRetrier.execute(taskDto, isLaunchedAutomatically, () -> {
+            final AtomicReference<CompletableFuture<Void>> handling = new AtomicReference<>();
+            taskScheduler.execute(isLaunchedAutomatically,
+                () -> partitionedExecutor.execute(taskDto, () -> handling.set(handleTask(taskDto, coreValidReqMapper, launchType))));
+            return handling.get();
+        });
+    }
+
+    /**
+     * @return future completed once the run request has been dispatched, or right away if it is not dispatched,
+     * completed exceptionally if its asynchronous dispatch failed
+     */
+    private CompletableFuture<Void> handleTask(final TaskDto taskDto,
+                                               final Function<TaskDto, CoreValidIntradayRequest> coreValidReqMapper,
+                                               final String launchType) {
+        return metrics.taskHandlingTimer(launchType).record(() -> {
+            try {
+                if (isReadyOrFinished(taskDto)) {
+                    deferredTaskQueue.discard(taskDto);
+                    final DispatchedRunIndex.Reservation reservation = dispatchedRunIndex.reserve(taskDto, AUTOMATIC.equals(launchType));
+                    if (reservation != null) {
+                        LOGGER.info("Handling {} run request on TS {} ", launchType, taskDto.getTimestamp());
+                        try {
+                            final CoreValidIntradayRequest request = coreValidReqMapper.apply(taskDto);
+                            return dispatch(taskDto, request, launchType, reservation);
+                        } catch (final RuntimeException e) {
+                            dispatchedRunIndex.cancel(reservation);
+                            throw e;
+                        }
+                    }
+                } else {
+                    rejectNotReadyTask(taskDto, launchType);
+                }
+                return CompletableFuture.<Void>completedFuture(null);
+            } catch (final Exception e) {
+                throw getHandlingException(taskDto, launchType, e);
+            }
+        });
+    }
+
+    private static CoreValidIntradayAdapterException getHandlingException(final TaskDto taskDto, final String launchType, final Throwable cause) {
+        return new CoreValidIntradayAdapterException(String.format("Error during handling of %s run request on TS %s",
+                                                                   launchType, taskDto.getTimestamp()), cause);
+    }
+
+    private void rejectNotReadyTask(final TaskDto taskDto, final String launchType) {
+        metrics.incrementNotReadyTasks(launchType);
+        LOGGER.warn("Failed to handle {} run request on timestamp {} because it is not ready yet",
+                    launchType,
+                    taskDto.getTimestamp());
+        final boolean isLaunchedAutomatically = AUTOMATIC.equals(launchType);
+        deferredTaskQueue.park(taskDto, isLaunchedAutomatically, readyTask -> process(readyTask, isLaunchedAutomatically));
+    }
+
+    /**
+     * Handles a whole batch of run requests, each of them going through the same processing stages as a single one.
+     * The run requests of all the ready tasks are prepared once and their inputs are signed at once beforehand, each
+     * distinct file being signed only once for the batch. Run requests of different timestamps are then handled
+     * concurrently and those of a same timestamp one after the other. Run requests failing for good are reported on
+     * their own, and the batch is acknowledged once all of them are over, so that the run requests already
+     * dispatched are never dispatched again with a redelivered batch.
+     */
+    private void handleTasks(final List<TaskDto> taskDtos, final boolean isLaunchedAutomatically) {
+        final String launchType = isLaunchedAutomatically ? AUTOMATIC : MANUAL;
+        LOGGER.info("Handling batch of {} {} run requests", taskDtos.size(), launchType);
+        final Map<TaskDto, Preparation> preparations = prepareBatch(taskDtos, isLaunchedAutomatically);
+        final Map<String, String> signedUrls = generateBatchPreSignedUrls(preparations.values());
+        final Function<TaskDto, PreparedRequest> preparer = dto -> {
+            final Preparation preparation = preparations.get(dto);
+            return preparation != null ? preparation.get() : requestMapper.prepare(dto, isLaunchedAutomatically);
+        };
+        final Map<Instant, List<TaskDto>> tasksByTimestamp = new LinkedHashMap<>();
+        taskDtos.forEach(taskDto -> tasksByTimestamp.computeIfAbsent(taskDto.getTimestamp().toInstant(), timestamp -> new ArrayList<>()).add(taskDto));
+        final CompletableFuture<?>[] executions = tasksByTimestamp.values().stream()
+                .map(tasks -> CompletableFuture.runAsync(() -> tasks.forEach(taskDto -> {
+                    try {
+                        process(taskDto, isLaunchedAutomatically, preparer, signedUrls);
+                    } catch (final RuntimeException e) {
+                        taskRetrier.reportFailure(taskDto, isLaunchedAutomatically, e);
+                    }
+                }), batchExecutor))
+                .toArray(CompletableFuture<?>[]::new);
+        CompletableFuture.allOf(executions).join();
+    }
+
+    /**
+     * Prepares the run requests of all the ready tasks of the batch, keeping the failures so that they are thrown
+     * when the failing tasks are handled rather than prepared a second time.
+     *
+     * @return preparations indexed by task, by identity
+     */
+    private Map<TaskDto, Preparation> prepareBatch(final List<TaskDto> taskDtos, final boolean isLaunchedAutomatically) {
+        final Map<TaskDto, Preparation> preparations = new IdentityHashMap<>();
+        for (final TaskDto taskDto : taskDtos) {
             if (isReadyOrFinished(taskDto)) {
-                LOGGER.info("Handling {} run request on TS {} ", launchType, taskDto.getTimestamp());
-                final CoreValidIntradayRequest request = coreValidReqMapper.apply(taskDto);
-                coreValidIntradayClient.run(request);
-            } else {
-                LOGGER.warn("Failed to handle {} run request on timestamp {} because it is not ready yet",
-                            launchType,
-                            taskDto.getTimestamp());
+                try {
+                    preparations.put(taskDto, new Preparation(requestMapper.prepare(taskDto, isLaunchedAutomatically), null));
+                } catch (final RuntimeException e) {
+                    preparations.put(taskDto, new Preparation(null, e));
+                }
             }
-        } catch (final Exception e) {
-            throw new CoreValidIntradayAdapterException(String.format("Error during handling of %s run request on TS %s",
-                                                              launchType, taskDto.getTimestamp()), e);
         }
+        return preparations;
+    }
+
+    /**
+     * Signs the inputs of all the prepared run requests of the batch at once.
+     *
+     * @return pre-signed URLs indexed by MinIO path, none if the inputs could not be signed at once
+     */
+    private Map<String, String> generateBatchPreSignedUrls(final Collection<Preparation> preparations) {
+        final List<ProcessFileDto> files = new ArrayList<>();
+        for (final Preparation preparation : preparations) {
+            if (preparation.preparedRequest() != null) {
+                files.addAll(preparation.preparedRequest().files());
+            }
+        }
+        try {
+            return preSignedUrlGenerator.generatePreSignedUrls(files);
+        } catch (final CoreValidIntradayAdapterException e) {
+            LOGGER.warn("Failed to sign the inputs of the batch at once, falling back to signing them task by task", e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Dispatches the request to the runner without waiting for an asynchronous dispatch to complete, the reservation
+     * of the run being cancelled if the runner does not accept the request.
+     *
+     * @return future completed once the runner has accepted the request, exceptionally with the failure of the
+     * handling of the run request otherwise
+     */
+    private CompletableFuture<Void> dispatch(final TaskDto taskDto,
+                                             final CoreValidIntradayRequest request,
+                                             final String launchType,
+                                             final DispatchedRunIndex.Reservation reservation) {
+        final CompletableFuture<Void> handling = new CompletableFuture<>();
+        requestDispatcher.dispatch(request).whenComplete((result, failure) -> {
+            if (failure == null) {
+                handling.complete(null);
+            } else {
+                dispatchedRunIndex.cancel(reservation);
+                handling.completeExceptionally(getHandlingException(taskDto, launchType,
+                                                                    failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure));
+            }
+        });
+        return handling;
+    }
 
+    /**
+     * @return pre-signed URLs of all the request inputs, only the ones missing from the given URLs being signed
+     */
+    private Map<String, String> generatePreSignedUrls(final PreparedRequest preparedRequest, final Map<String, String> signedUrls) {
+        final List<ProcessFileDto> unsignedFiles = preparedRequest.files().stream()
+                .filter(file -> !signedUrls.containsKey(file.getFilePath()))
+                .toList();
+        if (unsignedFiles.isEmpty()) {
+            return signedUrls;
+        }
+        final Map<String, String> fileUrls = new HashMap<>(signedUrls);
+        fileUrls.putAll(preSignedUrlGenerator.generatePreSignedUrls(unsignedFiles));
+        return fileUrls;
     }
 
-    private static boolean isReadyOrFinished(final TaskDto taskDto) {
+    public static boolean isReadyOrFinished(final TaskDto taskDto) {
         final TaskStatus status = taskDto.getStatus();
         return status == READY || status == SUCCESS || status == ERROR;
     }
@@ -97,58 +323,37 @@ public class CoreValidIntradayAdapterListener {
 
     CoreValidIntradayRequest getCoreValidIntradayRequest(final TaskDto taskDto,
                                                  final boolean isLaunchedAutomatically) {
-        final String id = taskDto.getId().toString();
-        final OffsetDateTime offsetDateTime = taskDto.getTimestamp();
-        final List<ProcessFileDto> processFiles = taskDto.getInputs();
-        CoreValidIntradayFileResource cnecRam = null;
-        CoreValidIntradayFileResource vertice = null;
-        CoreValidIntradayFileResource cgm = null;
-        CoreValidIntradayFileResource glsk = null;
-        CoreValidIntradayFileResource mergedCnec = null;
-        CoreValidIntradayFileResource marketPoint = null;
-        CoreValidIntradayFileResource pra = null;
-        for (final ProcessFileDto processFileDto : processFiles) {
-            final String fileType = processFileDto.getFileType();
-            final String fileUrl = minioAdapter.generatePreSignedUrlFromFullMinioPath(processFileDto.getFilePath(), 1);
-            final String fileName = processFileDto.getFilename();
-            switch (fileType) {
-                case "CNEC-RAM" -> cnecRam = new CoreValidIntradayFileResource(fileName, fileUrl);
-                case "VERTICE" -> vertice = new CoreValidIntradayFileResource(fileName, fileUrl);
-                case "CGM" -> cgm = new CoreValidIntradayFileResource(fileName, fileUrl);
-                case "GLSK" -> glsk = new CoreValidIntradayFileResource(fileName, fileUrl);
-                case "MERGED-CNEC" -> mergedCnec = new CoreValidIntradayFileResource(fileName, fileUrl);
-                case "MARKET-POINT" -> marketPoint = new CoreValidIntradayFileResource(fileName, fileUrl);
-                case "PRA" -> pra = new CoreValidIntradayFileResource(fileName, fileUrl);
-                default -> throw new IllegalStateException("Unexpected value: " + fileType);
+        return getCoreValidIntradayRequest(taskDto, isLaunchedAutomatically, dto -> requestMapper.prepare(dto, isLaunchedAutomatically), Map.of());
+    }
+
+    private CoreValidIntradayRequest getCoreValidIntradayRequest(final TaskDto taskDto,
+                                                                 final boolean isLaunchedAutomatically,
+                                                                 final Function<TaskDto, PreparedRequest> preparer,
+                                                                 final Map<String, String> signedUrls) {
+        final String launchType = isLaunchedAutomatically ? AUTOMATIC : MANUAL;
+        return metrics.requestMappingTimer(launchType).record(() -> {
+            final PreparedRequest preparedRequest = preparer.apply(taskDto);
+            inputPreflightChecker.check(preparedRequest);
+            return requestMapper.toRequest(preparedRequest, generatePreSignedUrls(preparedRequest, signedUrls));
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchExecutor.shutdownNow();
+    }
+
+    /**
+     * Outcome of the preparation of the run request of a task of a batch, either the prepared request or the
+     * failure to prepare it.
+     */
+    private record Preparation(PreparedRequest preparedRequest, RuntimeException failure) {
+
+        PreparedRequest get() {
+            if (failure != null) {
+                throw failure;
             }
+            return preparedRequest;
         }
-        return new CoreValidIntradayRequest(
-                id,
-                getCurrentRunId(taskDto, isLaunchedAutomatically),
-                offsetDateTime,
-                cnecRam,
-                vertice,
-                cgm,
-                glsk,
-                mergedCnec,
-                marketPoint,
-                pra,
-                isLaunchedAutomatically
-        );
-    }
-
-    private String getCurrentRunId(final TaskDto taskDto,
-                                   final boolean isLaunchedAutomatically) {
-        final List<ProcessRunDto> runHistory = taskDto.getRunHistory();
-        if (runHistory == null || runHistory.isEmpty()) {
-            final String launchType = isLaunchedAutomatically ? AUTOMATIC : MANUAL;
-            LOGGER.warn("Failed to handle {} run request on timestamp {} because it has no run history",
-                        launchType,
-                        taskDto.getTimestamp());
-            throw new CoreValidIntradayAdapterException("Failed to handle %s run request on timestamp because it has no run history"
-                                                        .formatted(launchType));
-        }
-        runHistory.sort((o1, o2) -> o2.getExecutionDate().compareTo(o1.getExecutionDate()));
-        return runHistory.getFirst().getId().toString();
     }
 }
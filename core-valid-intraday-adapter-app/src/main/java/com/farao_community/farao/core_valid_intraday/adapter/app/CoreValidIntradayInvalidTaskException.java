@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+/**
+ * Thrown when a task cannot be turned into a run request whatever the number of attempts, because of its content.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class CoreValidIntradayInvalidTaskException extends CoreValidIntradayAdapterException {
+
+    public CoreValidIntradayInvalidTaskException(final String message) {
+        super(message);
+    }
+}
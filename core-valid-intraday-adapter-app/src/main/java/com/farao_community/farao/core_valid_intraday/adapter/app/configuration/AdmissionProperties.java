@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the adaptive admission of requests to the dispatch to the runner.
+ *
+ * @param enabled                whether the number of requests dispatched at the same time adapts to the runner feedback
+ * @param initialLimit           number of requests that may be dispatched at the same time on startup
+ * @param minLimit               lowest limit, however slow or failing the runner is
+ * @param maxLimit               highest limit, however fast the runner is, bounded by the maximum number of requests
+ *                               in flight with asynchronous dispatch
+ * @param latencyThreshold       dispatch latency beyond which the runner is deemed to have a backlog
+ * @param additiveIncrease       increase of the limit once a full limit of requests has been dispatched in time
+ * @param multiplicativeDecrease factor applied to the limit when a dispatch fails or exceeds the latency threshold
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.admission")
+public record AdmissionProperties(@DefaultValue("false") boolean enabled,
+                                  @DefaultValue("8") int initialLimit,
+                                  @DefaultValue("1") int minLimit,
+                                  @DefaultValue("64") int maxLimit,
+                                  @DefaultValue("2s") Duration latencyThreshold,
+                                  @DefaultValue("1.0") double additiveIncrease,
+                                  @DefaultValue("0.5") double multiplicativeDecrease) {
+}
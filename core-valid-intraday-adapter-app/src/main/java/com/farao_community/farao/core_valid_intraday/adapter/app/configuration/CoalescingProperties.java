@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the coalescing of duplicate automatic run requests.
+ *
+ * @param quietWindow    time without any new message for the same task and run before the latest one is handled,
+ *                       a zero window disables coalescing
+ * @param maximumWait    longest time a message can be held, however many identical messages keep arriving
+ * @param maximumPending maximum number of tasks held at once, messages of other tasks being handled right away
+ *                       once it is reached
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.coalescing")
+public record CoalescingProperties(@DefaultValue("0s") Duration quietWindow,
+                                   @DefaultValue("1m") Duration maximumWait,
+                                   @DefaultValue("1000") int maximumPending) {
+
+    public boolean enabled() {
+        return quietWindow.isPositive();
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the re-check of run requests whose task is not ready yet.
+ *
+ * @param enabled                 whether such run requests are parked and re-checked, otherwise they are dropped
+ * @param interval                time between two checks of a parked run request
+ * @param deadline                time after which a parked run request whose task is still not ready is dropped
+ * @param maxParkedTasks          maximum number of run requests parked at the same time, further ones being dropped
+ * @param taskManagerTimestampUrl URL of the task manager endpoint returning the task of a timestamp, the timestamp
+ *                                being appended to it
+ * @param requestTimeout          maximum time allowed to get a task from the task manager
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.deferred-recheck")
+public record DeferredRecheckProperties(@DefaultValue("false") boolean enabled,
+                                        @DefaultValue("30s") Duration interval,
+                                        @DefaultValue("30m") Duration deadline,
+                                        @DefaultValue("500") int maxParkedTasks,
+                                        String taskManagerTimestampUrl,
+                                        @DefaultValue("5s") Duration requestTimeout) {
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the dispatch of requests to the Core Valid Intraday runner.
+ *
+ * @param asynchronous whether requests are dispatched on their own virtual thread, the listener thread moving on to
+ *                     the next message as soon as the dispatch has started, failures being then retried and
+ *                     dead-lettered from the completion of the dispatch instead of being thrown to the binder
+ * @param maxInFlight  maximum number of requests being dispatched at the same time in asynchronous mode, whatever
+ *                     the number of listener threads and batch tasks, a new dispatch waits for a free slot once it
+ *                     is reached
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.dispatch")
+public record DispatchProperties(@DefaultValue("false") boolean asynchronous,
+                                 @DefaultValue("16") int maxInFlight) {
+}
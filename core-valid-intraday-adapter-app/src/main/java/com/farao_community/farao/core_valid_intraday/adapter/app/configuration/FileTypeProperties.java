@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.InputSlot;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Settings of the resolution of task inputs into run request inputs, on top of the default file type of each input.
+ *
+ * @param aliases   additional file types, along with the run request input they feed
+ * @param ignored   file types of task inputs that are not sent to the runner
+ * @param mandatory run request inputs a task must have, all the other ones are optional
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.file-types")
+public record FileTypeProperties(@DefaultValue Map<String, InputSlot> aliases,
+                                 @DefaultValue Set<String> ignored,
+                                 @DefaultValue Set<InputSlot> mandatory) {
+}
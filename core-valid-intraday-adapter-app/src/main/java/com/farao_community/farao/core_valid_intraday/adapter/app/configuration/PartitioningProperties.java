@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the partitioning of run requests by timestamp.
+ *
+ * @param partitions number of partitions run requests are spread over, run requests of a same partition being
+ *                   handled one after the other in their order of arrival, zero disables partitioning
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.partitioning")
+public record PartitioningProperties(@DefaultValue("0") int partitions) {
+
+    public boolean enabled() {
+        return partitions > 0;
+    }
+}
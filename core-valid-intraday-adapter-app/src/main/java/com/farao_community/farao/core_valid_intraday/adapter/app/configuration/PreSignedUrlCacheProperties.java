@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the cache of MinIO pre-signed URLs.
+ *
+ * @param enabled                  whether already signed URLs are reused
+ * @param maximumSize              maximum number of URLs kept in the cache
+ * @param urlLifetime              lifetime a URL is signed for, a whole number of hours as required by MinIO
+ * @param minimumRemainingLifetime lifetime a cached URL must still have to be handed back
+ * @param refreshAhead             how long before its eviction a cached URL gets signed again in the background
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.url-signing.cache")
+public record PreSignedUrlCacheProperties(@DefaultValue("true") boolean enabled,
+                                          @DefaultValue("1000") long maximumSize,
+                                          @DefaultValue("1h") Duration urlLifetime,
+                                          @DefaultValue("30m") Duration minimumRemainingLifetime,
+                                          @DefaultValue("10m") Duration refreshAhead) {
+
+    /**
+     * @return how long a URL can be handed back after being signed
+     */
+    public Duration reuseDuration() {
+        return urlLifetime.minus(minimumRemainingLifetime);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the check of the inputs of a run request in MinIO before it is dispatched.
+ *
+ * @param enabled               whether inputs are checked to exist and not be empty before dispatch
+ * @param bucket                MinIO bucket the input paths belong to
+ * @param timeout               maximum time allowed to check all the inputs of one request
+ * @param cacheMaximumSize      maximum number of input metadata kept in the cache
+ * @param cacheExpireAfterWrite time after which cached input metadata are fetched again
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.preflight")
+public record PreflightProperties(@DefaultValue("false") boolean enabled,
+                                  String bucket,
+                                  @DefaultValue("10s") Duration timeout,
+                                  @DefaultValue("1000") long cacheMaximumSize,
+                                  @DefaultValue("1h") Duration cacheExpireAfterWrite) {
+}
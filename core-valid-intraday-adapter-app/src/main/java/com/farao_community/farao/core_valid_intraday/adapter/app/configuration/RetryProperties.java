@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-process retry of run requests failing because of a transient error.
+ *
+ * @param enabled               whether failing run requests are retried in the adapter, otherwise failures are
+ *                              thrown back to the binder right away
+ * @param maxAttempts           maximum number of attempts to handle a run request, the first one included
+ * @param initialBackoff        delay before the first retry
+ * @param multiplier            factor applied to the delay after each retry
+ * @param maxBackoff            maximum delay between two attempts
+ * @param jitter                share of each delay that is randomly shortened, between 0 and 1, so that run requests
+ *                              failing together are not retried together
+ * @param deadLetterDestination destination run requests are sent to once failed for good, failures being thrown back
+ *                              to the binder when none is set
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.retry")
+public record RetryProperties(@DefaultValue("false") boolean enabled,
+                              @DefaultValue("3") int maxAttempts,
+                              @DefaultValue("500ms") Duration initialBackoff,
+                              @DefaultValue("2.0") double multiplier,
+                              @DefaultValue("10s") Duration maxBackoff,
+                              @DefaultValue("0.5") double jitter,
+                              String deadLetterDestination) {
+
+    public boolean deadLetteringEnabled() {
+        return deadLetterDestination != null && !deadLetterDestination.isBlank();
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * Settings of the index of the latest run dispatched for each task, used to drop stale run requests.
+ *
+ * @param enabled                  whether run requests built from a run older than the latest dispatched one are dropped
+ * @param maxEntries               maximum number of tasks indexed, the tasks of the oldest timestamps being evicted beyond
+ * @param businessDayZone          time zone of the business days of the task timestamps
+ * @param retainedPastBusinessDays number of past business days whose tasks stay indexed
+ * @param evictionInterval         time between two evictions of the tasks of past business days
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.run-index")
+public record RunIndexProperties(@DefaultValue("false") boolean enabled,
+                                 @DefaultValue("10000") int maxEntries,
+                                 @DefaultValue("Europe/Paris") ZoneId businessDayZone,
+                                 @DefaultValue("1") int retainedPastBusinessDays,
+                                 @DefaultValue("1h") Duration evictionInterval) {
+}
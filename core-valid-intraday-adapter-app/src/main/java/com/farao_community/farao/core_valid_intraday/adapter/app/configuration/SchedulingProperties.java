@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the sharing of the processing capacity between manual and automatic run requests.
+ *
+ * @param enabled              whether run requests wait for their turn, otherwise they are handled right away
+ * @param maxConcurrency       maximum number of run requests handled at the same time, all launch types together
+ * @param policy               how the next run request is picked when both manual and automatic ones are waiting
+ * @param manualWeight         with the weighted policy, number of manual run requests handled in a row before
+ *                             a waiting automatic one gets its turn
+ * @param manualConcurrency    maximum number of manual run requests handled at the same time
+ * @param automaticConcurrency maximum number of automatic run requests handled at the same time
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.scheduling")
+public record SchedulingProperties(@DefaultValue("false") boolean enabled,
+                                   @DefaultValue("4") int maxConcurrency,
+                                   @DefaultValue("strict") Policy policy,
+                                   @DefaultValue("4") int manualWeight,
+                                   @DefaultValue("2") int manualConcurrency,
+                                   @DefaultValue("4") int automaticConcurrency) {
+
+    public enum Policy {
+        /**
+         * Manual run requests always go first, automatic ones only get the capacity manual ones leave
+         */
+        STRICT,
+        /**
+         * Manual run requests go first, but a waiting automatic one gets its turn after a given number of manual ones
+         */
+        WEIGHTED
+    }
+}
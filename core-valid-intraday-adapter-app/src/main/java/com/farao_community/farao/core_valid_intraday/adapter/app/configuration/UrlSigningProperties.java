@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the concurrent generation of MinIO pre-signed URLs.
+ *
+ * @param maxConcurrency maximum number of URLs signed at the same time
+ * @param timeout        maximum time allowed to sign all the inputs of one request
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties(prefix = "core-valid-intraday-adapter.url-signing")
+public record UrlSigningProperties(@DefaultValue("7") int maxConcurrency,
+                                   @DefaultValue("30s") Duration timeout) {
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.dispatch;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.AdmissionProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DispatchProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics.PREFIX;
+
+/**
+ * Limits the number of requests dispatched to the runner at the same time, adapting the limit to the runner
+ * feedback with an AIMD algorithm: the limit grows additively while dispatches succeed within the latency
+ * threshold, and is cut multiplicatively as soon as one fails or exceeds it, a sign that the runner has a backlog.
+ * <p>
+ * Once the limit is reached, the listener thread waits for a dispatch to complete, so that the excess messages
+ * stay unacknowledged in the broker instead of piling up in memory.
+ * <p>
+ * The limit only throttles the dispatches actually running at the same time: with asynchronous dispatch, it is
+ * bounded by the maximum number of requests in flight, so that a cut always takes effect. With synchronous
+ * dispatch, no more requests are dispatched at the same time than there are listener threads and batch tasks,
+ * and a limit above that never throttles anything.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class AdmissionController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionController.class);
+
+    private final AdmissionProperties properties;
+    private final CoreValidIntradayAdapterMetrics metrics;
+    private final int maxLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dispatchCompleted = lock.newCondition();
+    private double limit;
+    private int inFlight;
+
+    public AdmissionController(final AdmissionProperties properties,
+                               final DispatchProperties dispatchProperties,
+                               final CoreValidIntradayAdapterMetrics metrics,
+                               final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.maxLimit = dispatchProperties.asynchronous() ? Math.min(properties.maxLimit(), dispatchProperties.maxInFlight()) : properties.maxLimit();
+        this.limit = Math.min(properties.initialLimit(), maxLimit);
+        if (properties.enabled() && !dispatchProperties.asynchronous()) {
+            LOGGER.warn("Admission control is enabled with synchronous dispatch, its limit of {} only throttles when below the number of listener threads",
+                        this.limit);
+        }
+        Gauge.builder(PREFIX + "admission.limit", this, AdmissionController::getLimit)
+                .description("Requests that may currently be dispatched to the runner at the same time")
+                .register(meterRegistry);
+        Gauge.builder(PREFIX + "admission.in.flight", this, AdmissionController::getInFlightCount)
+                .description("Requests admitted and being dispatched to the runner")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Waits until the request may be dispatched, or returns right away when admission control is disabled.
+     * Each admission must be followed by a call to {@link #release} or {@link #abandon}.
+     */
+    public void admit(final String launchType) {
+        if (!properties.enabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (inFlight >= getPermits()) {
+                metrics.incrementThrottledRequests(launchType);
+                final long waitStart = System.nanoTime();
+                while (inFlight >= getPermits()) {
+                    dispatchCompleted.await();
+                }
+                metrics.admissionWaitTimer(launchType).record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+            }
+            inFlight++;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreValidIntradayAdapterException("Interrupted while waiting for admission of %s request".formatted(launchType), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the admission of a completed dispatch and adapts the limit to its outcome.
+     *
+     * @param latencyNanos time the runner took to accept the request, or to fail
+     * @param failed       whether the dispatch failed
+     */
+    public void release(final long latencyNanos, final boolean failed) {
+        if (!properties.enabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            if (failed || latencyNanos > properties.latencyThreshold().toNanos()) {
+                limit = Math.max(properties.minLimit(), limit * properties.multiplicativeDecrease());
+            } else {
+                // spread the additive increase over a full limit of dispatches, as in TCP congestion avoidance
+                limit = Math.min(maxLimit, limit + properties.additiveIncrease() / limit);
+            }
+            dispatchCompleted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the admission of a request that could not be dispatched, leaving the limit unchanged.
+     */
+    public void abandon() {
+        if (!properties.enabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            dispatchCompleted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getInFlightCount() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int getPermits() {
+        return Math.max(1, (int) limit);
+    }
+}
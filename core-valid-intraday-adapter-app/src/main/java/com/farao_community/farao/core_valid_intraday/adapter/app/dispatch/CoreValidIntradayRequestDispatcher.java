@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.dispatch;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DispatchProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayRequest;
+import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.AUTOMATIC;
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.MANUAL;
+
+/**
+ * Hands the requests over to the Core Valid Intraday runner.
+ * In asynchronous mode, each request is run on its own virtual thread and the number of requests in flight is
+ * bounded: once the limit is reached, the caller waits for a free slot, which holds back the consumption of
+ * new messages instead of dropping them. When admission control is enabled, requests are first admitted by the
+ * {@link AdmissionController}, which is fed back with the latency and outcome of each dispatch.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class CoreValidIntradayRequestDispatcher {
+
+    private final CoreValidIntradayClient coreValidIntradayClient;
+    private final DispatchProperties properties;
+    private final AdmissionController admissionController;
+    private final CoreValidIntradayAdapterMetrics metrics;
+    private final Semaphore inFlightPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CoreValidIntradayRequestDispatcher(final CoreValidIntradayClient coreValidIntradayClient,
+                                              final DispatchProperties properties,
+                                              final AdmissionController admissionController,
+                                              final CoreValidIntradayAdapterMetrics metrics,
+                                              final MeterRegistry meterRegistry) {
+        this.coreValidIntradayClient = coreValidIntradayClient;
+        this.properties = properties;
+        this.admissionController = admissionController;
+        this.metrics = metrics;
+        this.inFlightPermits = new Semaphore(properties.maxInFlight());
+        Gauge.builder("core.valid.intraday.adapter.dispatch.in.flight", this, CoreValidIntradayRequestDispatcher::getInFlightCount)
+                .description("Requests currently being dispatched to the runner")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Dispatches the request to the runner. In synchronous mode, the request is run on the calling thread and
+     * failures are thrown right away. In asynchronous mode, the call returns as soon as the request has a slot
+     * among the requests in flight, and failures complete the returned future exceptionally with a
+     * {@link CoreValidIntradayAdapterException}.
+     *
+     * @return future completed once the runner has accepted the request
+     */
+    public CompletableFuture<Void> dispatch(final CoreValidIntradayRequest request) {
+        admissionController.admit(getLaunchType(request));
+        if (!properties.asynchronous()) {
+            runOnRunner(request);
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            acquireInFlightPermit(request);
+        } catch (final RuntimeException e) {
+            admissionController.abandon();
+            throw e;
+        }
+        try {
+            return CompletableFuture.runAsync(() -> run(request), executor);
+        } catch (final RuntimeException e) {
+            inFlightPermits.release();
+            admissionController.abandon();
+            throw e;
+        }
+    }
+
+    private void acquireInFlightPermit(final CoreValidIntradayRequest request) {
+        try {
+            inFlightPermits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreValidIntradayAdapterException("Interrupted while waiting to dispatch run request of task %s".formatted(request.getId()), e);
+        }
+    }
+
+    private void run(final CoreValidIntradayRequest request) {
+        try {
+            runOnRunner(request);
+        } catch (final Exception e) {
+            throw new CoreValidIntradayAdapterException("Error during dispatch of run request of task %s".formatted(request.getId()), e);
+        } finally {
+            inFlightPermits.release();
+        }
+    }
+
+    private void runOnRunner(final CoreValidIntradayRequest request) {
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            metrics.dispatchTimer(getLaunchType(request)).record(() -> coreValidIntradayClient.run(request));
+            failed = false;
+        } finally {
+            admissionController.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private static String getLaunchType(final CoreValidIntradayRequest request) {
+        return request.getLaunchedAutomatically() ? AUTOMATIC : MANUAL;
+    }
+
+    int getInFlightCount() {
+        return properties.maxInFlight() - inFlightPermits.availablePermits();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.dispatch;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.RunIndexProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.CoreValidIntradayRequestMapper;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.AUTOMATIC;
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.MANUAL;
+
+/**
+ * Keeps, for each task, the latest run a run request has been dispatched for, so that a run request built from an
+ * older run, for instance redelivered by the broker after a newer one, is dropped instead of wasting a computation.
+ * The check and the recording of a run are a single atomic reservation, so that run requests of the same task handled
+ * concurrently cannot both pass the check. The reservation of a run request failing before or during dispatch is
+ * cancelled, which restores the run recorded before, so that the redelivery of an older run is not made stale by a
+ * run that was never dispatched. Run requests built from the same run are let through, leaving duplicates to the
+ * coalescing.
+ * The index is bounded: the tasks of past business days are evicted at regular intervals and, beyond the maximum
+ * number of entries, the tasks of the oldest timestamps are evicted first, tasks being kept ordered by timestamp.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class DispatchedRunIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DispatchedRunIndex.class);
+    private static final UUID LOWEST_TASK_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final RunIndexProperties properties;
+    private final CoreValidIntradayAdapterMetrics metrics;
+    private final Map<UUID, DispatchedRun> dispatchedRuns = new ConcurrentHashMap<>();
+    private final NavigableSet<IndexedTask> tasksByTimestamp = new ConcurrentSkipListSet<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("dispatched-run-index").factory());
+
+    public DispatchedRunIndex(final RunIndexProperties properties,
+                              final CoreValidIntradayAdapterMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+        metrics.registerRunIndexSize(dispatchedRuns);
+        if (properties.enabled()) {
+            final long intervalMillis = properties.evictionInterval().toMillis();
+            timer.scheduleAtFixedRate(this::evictPastBusinessDays, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Reserves the latest run of the task as dispatched, unless a newer run has already been reserved or dispatched
+     * for it, in which case the run request is stale and should be dropped. The reservation must be cancelled if the
+     * run request is eventually not dispatched. Nothing is reserved when the index is disabled or the task has no
+     * run history.
+     *
+     * @return the reservation, to be cancelled if the dispatch fails, or {@code null} if the run request is stale
+     */
+    public Reservation reserve(final TaskDto taskDto, final boolean isLaunchedAutomatically) {
+        if (!properties.enabled()) {
+            return Reservation.NONE;
+        }
+        final ProcessRunDto latestRun = CoreValidIntradayRequestMapper.findLatestRun(taskDto.getRunHistory());
+        if (latestRun == null) {
+            return Reservation.NONE;
+        }
+        final DispatchedRun candidate = new DispatchedRun(taskDto.getTimestamp(), latestRun.getId(), latestRun.getExecutionDate(), Instant.now());
+        final Reservation[] reservation = new Reservation[1];
+        final DispatchedRun dispatchedRun = dispatchedRuns.compute(taskDto.getId(), (taskId, current) -> {
+            if (current == null) {
+                tasksByTimestamp.add(new IndexedTask(candidate.timestamp(), taskId));
+                reservation[0] = new Reservation(taskId, null, candidate);
+                return candidate;
+            }
+            if (candidate.runExecutionDate().isAfter(current.runExecutionDate())) {
+                reservation[0] = new Reservation(taskId, current, candidate);
+                return candidate;
+            }
+            if (!candidate.runExecutionDate().isBefore(current.runExecutionDate())) {
+                reservation[0] = Reservation.NONE;
+            }
+            return current;
+        });
+        if (reservation[0] == null) {
+            final String launchType = isLaunchedAutomatically ? AUTOMATIC : MANUAL;
+            metrics.incrementStaleRunRequests(launchType);
+            LOGGER.warn("Stale {} run request on timestamp {} dropped, its run {} of {} is older than run {} of {} already dispatched",
+                        launchType, taskDto.getTimestamp(), latestRun.getId(), latestRun.getExecutionDate(),
+                        dispatchedRun.runId(), dispatchedRun.runExecutionDate());
+            return null;
+        }
+        evictBeyondMaximumEntries();
+        return reservation[0];
+    }
+
+    /**
+     * Cancels the reservation of a run request that could not be dispatched, restoring the run recorded for the task
+     * before, unless the reserved run has been superseded or evicted meanwhile.
+     */
+    public void cancel(final Reservation reservation) {
+        if (reservation.reserved() == null) {
+            return;
+        }
+        dispatchedRuns.computeIfPresent(reservation.taskId(), (taskId, current) -> {
+            if (current != reservation.reserved()) {
+                return current;
+            }
+            if (reservation.previous() == null) {
+                tasksByTimestamp.remove(new IndexedTask(current.timestamp(), taskId));
+            }
+            return reservation.previous();
+        });
+    }
+
+    private void evictBeyondMaximumEntries() {
+        while (dispatchedRuns.size() > properties.maxEntries()) {
+            final IndexedTask oldestTask = tasksByTimestamp.pollFirst();
+            if (oldestTask == null) {
+                break;
+            }
+            evict(oldestTask);
+        }
+    }
+
+    /**
+     * @return a snapshot of the index, by task id
+     */
+    public Map<UUID, DispatchedRun> getDispatchedRuns() {
+        return Map.copyOf(dispatchedRuns);
+    }
+
+    /**
+     * @return the latest run dispatched for the task, or {@code null} if the task is not indexed
+     */
+    public DispatchedRun getDispatchedRun(final UUID taskId) {
+        return dispatchedRuns.get(taskId);
+    }
+
+    private void evictPastBusinessDays() {
+        try {
+            evictPastBusinessDays(LocalDate.now(properties.businessDayZone()));
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Failed to evict past business days from the index of dispatched runs", e);
+        }
+    }
+
+    /**
+     * Evicts the tasks whose business day is older than the retained past business days before the given one.
+     */
+    void evictPastBusinessDays(final LocalDate businessDay) {
+        final OffsetDateTime oldestRetainedTimestamp = businessDay.minusDays(properties.retainedPastBusinessDays())
+                .atStartOfDay(properties.businessDayZone())
+                .toOffsetDateTime();
+        for (final IndexedTask indexedTask : tasksByTimestamp.headSet(new IndexedTask(oldestRetainedTimestamp, LOWEST_TASK_ID))) {
+            if (tasksByTimestamp.remove(indexedTask)) {
+                evict(indexedTask);
+            }
+        }
+    }
+
+    private void evict(final IndexedTask indexedTask) {
+        if (dispatchedRuns.remove(indexedTask.taskId()) != null) {
+            metrics.incrementRunIndexEvictions();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * @param timestamp        timestamp of the task
+     * @param runId            id of the latest run dispatched for the task
+     * @param runExecutionDate execution date of that run
+     * @param dispatchedAt     time the run request was reserved for dispatch
+     */
+    public record DispatchedRun(OffsetDateTime timestamp, UUID runId, OffsetDateTime runExecutionDate, Instant dispatchedAt) {
+    }
+
+    /**
+     * Run reserved for a task, along with the run it replaced.
+     *
+     * @param taskId   id of the task
+     * @param previous run recorded for the task before, {@code null} if the task was not indexed
+     * @param reserved run reserved, {@code null} if nothing was reserved
+     */
+    public record Reservation(UUID taskId, DispatchedRun previous, DispatchedRun reserved) {
+
+        public static final Reservation NONE = new Reservation(null, null, null);
+    }
+
+    /**
+     * Position of a task in the index, ordered by timestamp then task id.
+     */
+    private record IndexedTask(OffsetDateTime timestamp, UUID taskId) implements Comparable<IndexedTask> {
+
+        private static final Comparator<IndexedTask> ORDER = Comparator.comparing(IndexedTask::timestamp, OffsetDateTime.timeLineOrder())
+                .thenComparing(IndexedTask::taskId);
+
+        @Override
+        public int compareTo(final IndexedTask other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.dispatch;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Exposes the index of dispatched runs on {@code /actuator/runindex}, as a whole or for a single task id.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+@Endpoint(id = "runindex")
+public class DispatchedRunIndexEndpoint {
+
+    private final DispatchedRunIndex dispatchedRunIndex;
+
+    public DispatchedRunIndexEndpoint(final DispatchedRunIndex dispatchedRunIndex) {
+        this.dispatchedRunIndex = dispatchedRunIndex;
+    }
+
+    @ReadOperation
+    public Map<UUID, DispatchedRunIndex.DispatchedRun> dispatchedRuns() {
+        return dispatchedRunIndex.getDispatchedRuns();
+    }
+
+    @ReadOperation
+    public DispatchedRunIndex.DispatchedRun dispatchedRun(@Selector final UUID taskId) {
+        return dispatchedRunIndex.getDispatchedRun(taskId);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.mapping;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayInvalidTaskException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayFileResource;
+import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.AUTOMATIC;
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.MANUAL;
+
+/**
+ * Turns tasks into Core Valid Intraday run requests in two steps: {@link #prepare} resolves and validates the inputs
+ * and the current run of a task without any call to MinIO, then {@link #toRequest} builds the run request once
+ * the inputs are signed. Tasks are never modified.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class CoreValidIntradayRequestMapper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoreValidIntradayRequestMapper.class);
+
+    private final FileTypeRegistry fileTypeRegistry;
+    private final CoreValidIntradayAdapterMetrics metrics;
+
+    public CoreValidIntradayRequestMapper(final FileTypeRegistry fileTypeRegistry, final CoreValidIntradayAdapterMetrics metrics) {
+        this.fileTypeRegistry = fileTypeRegistry;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Resolves the run request input fed by each task input and the current run of the task.
+     *
+     * @throws UnknownFileTypeException             if an input has an unknown file type
+     * @throws CoreValidIntradayInvalidTaskException if several inputs feed the same run request input, if a mandatory
+     *                                               input is missing or if the task has no run history
+     */
+    public PreparedRequest prepare(final TaskDto taskDto, final boolean isLaunchedAutomatically) {
+        final Map<InputSlot, ProcessFileDto> inputs = resolveInputs(taskDto);
+        final String runId = metrics.runIdResolutionTimer(getLaunchType(isLaunchedAutomatically))
+                .record(() -> getCurrentRunId(taskDto, isLaunchedAutomatically));
+        return new PreparedRequest(taskDto, runId, inputs, isLaunchedAutomatically);
+    }
+
+    /**
+     * @param fileUrls pre-signed URLs indexed by MinIO path, covering at least the files of the prepared request
+     */
+    public CoreValidIntradayRequest toRequest(final PreparedRequest preparedRequest, final Map<String, String> fileUrls) {
+        final Map<InputSlot, ProcessFileDto> inputs = preparedRequest.inputs();
+        final TaskDto taskDto = preparedRequest.taskDto();
+        return new CoreValidIntradayRequest(
+                taskDto.getId().toString(),
+                preparedRequest.runId(),
+                taskDto.getTimestamp(),
+                toFileResource(inputs.get(InputSlot.CNEC_RAM), fileUrls),
+                toFileResource(inputs.get(InputSlot.VERTICE), fileUrls),
+                toFileResource(inputs.get(InputSlot.CGM), fileUrls),
+                toFileResource(inputs.get(InputSlot.GLSK), fileUrls),
+                toFileResource(inputs.get(InputSlot.MERGED_CNEC), fileUrls),
+                toFileResource(inputs.get(InputSlot.MARKET_POINT), fileUrls),
+                toFileResource(inputs.get(InputSlot.PRA), fileUrls),
+                preparedRequest.isLaunchedAutomatically()
+        );
+    }
+
+    private Map<InputSlot, ProcessFileDto> resolveInputs(final TaskDto taskDto) {
+        final Map<InputSlot, ProcessFileDto> inputs = new EnumMap<>(InputSlot.class);
+        for (final ProcessFileDto processFileDto : taskDto.getInputs()) {
+            final String fileType = processFileDto.getFileType();
+            final InputSlot inputSlot = fileTypeRegistry.resolve(fileType);
+            if (inputSlot == null) {
+                if (fileTypeRegistry.isIgnored(fileType)) {
+                    continue;
+                }
+                metrics.incrementUnknownFileTypes();
+                LOGGER.warn("Input {} of task on timestamp {} has unknown file type {}", processFileDto.getFilePath(), taskDto.getTimestamp(), fileType);
+                throw new UnknownFileTypeException(fileType);
+            }
+            final ProcessFileDto duplicateInput = inputs.put(inputSlot, processFileDto);
+            if (duplicateInput != null) {
+                throw new CoreValidIntradayInvalidTaskException("Task on timestamp %s has several %s inputs: %s and %s"
+                                                            .formatted(taskDto.getTimestamp(), inputSlot, duplicateInput.getFilePath(), processFileDto.getFilePath()));
+            }
+        }
+        for (final InputSlot inputSlot : InputSlot.values()) {
+            if (!inputs.containsKey(inputSlot) && fileTypeRegistry.isMandatory(inputSlot)) {
+                throw new CoreValidIntradayInvalidTaskException("Task on timestamp %s has no %s input"
+                                                            .formatted(taskDto.getTimestamp(), inputSlot));
+            }
+        }
+        return inputs;
+    }
+
+    private static CoreValidIntradayFileResource toFileResource(final ProcessFileDto processFileDto, final Map<String, String> fileUrls) {
+        if (processFileDto == null) {
+            return null;
+        }
+        return new CoreValidIntradayFileResource(processFileDto.getFilename(), fileUrls.get(processFileDto.getFilePath()));
+    }
+
+    public String getCurrentRunId(final TaskDto taskDto, final boolean isLaunchedAutomatically) {
+        final ProcessRunDto latestRun = findLatestRun(taskDto.getRunHistory());
+        if (latestRun == null) {
+            final String launchType = getLaunchType(isLaunchedAutomatically);
+            metrics.incrementMissingRunHistories(launchType);
+            LOGGER.warn("Failed to handle {} run request on timestamp {} because it has no run history",
+                        launchType,
+                        taskDto.getTimestamp());
+            throw new CoreValidIntradayInvalidTaskException("Failed to handle %s run request on timestamp because it has no run history"
+                                                        .formatted(launchType));
+        }
+        return latestRun.getId().toString();
+    }
+
+    /**
+     * Finds the run with the latest execution date in a single pass, leaving the run history untouched.
+     * When several runs share the latest execution date, the first one is returned. Runs without execution date
+     * are skipped.
+     *
+     * @return the latest run, or {@code null} if the run history is missing or has no dated run
+     */
+    public static ProcessRunDto findLatestRun(final List<ProcessRunDto> runHistory) {
+        if (runHistory == null) {
+            return null;
+        }
+        ProcessRunDto latestRun = null;
+        for (final ProcessRunDto run : runHistory) {
+            if (run.getExecutionDate() != null && (latestRun == null || run.getExecutionDate().isAfter(latestRun.getExecutionDate()))) {
+                latestRun = run;
+            }
+        }
+        return latestRun;
+    }
+
+    private static String getLaunchType(final boolean isLaunchedAutomatically) {
+        return isLaunchedAutomatically ? AUTOMATIC : MANUAL;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.mapping;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.FileTypeProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves task manager file types into run request inputs. The resolution table is computed once at startup
+ * from the default file type of each input and the configured aliases, so that a lookup is a single hash access.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class FileTypeRegistry {
+
+    private final Map<String, InputSlot> inputSlots;
+    private final Set<String> ignoredFileTypes;
+    private final Set<InputSlot> mandatoryInputSlots;
+
+    public FileTypeRegistry(final FileTypeProperties properties) {
+        final Map<String, InputSlot> slots = new HashMap<>();
+        for (final InputSlot inputSlot : InputSlot.values()) {
+            slots.put(inputSlot.getDefaultFileType(), inputSlot);
+        }
+        properties.aliases().forEach((fileType, inputSlot) -> {
+            final InputSlot existingSlot = slots.putIfAbsent(fileType, inputSlot);
+            if (existingSlot != null && existingSlot != inputSlot) {
+                throw new CoreValidIntradayAdapterException("File type %s cannot feed both %s and %s inputs"
+                                                            .formatted(fileType, existingSlot, inputSlot));
+            }
+        });
+        for (final String fileType : properties.ignored()) {
+            if (slots.containsKey(fileType)) {
+                throw new CoreValidIntradayAdapterException("File type %s cannot be both ignored and fed to %s input"
+                                                            .formatted(fileType, slots.get(fileType)));
+            }
+        }
+        this.inputSlots = slots;
+        this.ignoredFileTypes = new HashSet<>(properties.ignored());
+        this.mandatoryInputSlots = EnumSet.noneOf(InputSlot.class);
+        this.mandatoryInputSlots.addAll(properties.mandatory());
+    }
+
+    /**
+     * @return the run request input fed by the given file type, or {@code null} if the file type is unknown or ignored
+     */
+    public InputSlot resolve(final String fileType) {
+        return inputSlots.get(fileType);
+    }
+
+    public boolean isIgnored(final String fileType) {
+        return ignoredFileTypes.contains(fileType);
+    }
+
+    public boolean isMandatory(final InputSlot inputSlot) {
+        return mandatoryInputSlots.contains(inputSlot);
+    }
+}
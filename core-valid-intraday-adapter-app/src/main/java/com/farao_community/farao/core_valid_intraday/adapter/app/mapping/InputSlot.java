@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.mapping;
+
+/**
+ * Inputs of a Core Valid Intraday run request, along with the task manager file type feeding each of them by default.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public enum InputSlot {
+    CNEC_RAM("CNEC-RAM"),
+    VERTICE("VERTICE"),
+    CGM("CGM"),
+    GLSK("GLSK"),
+    MERGED_CNEC("MERGED-CNEC"),
+    MARKET_POINT("MARKET-POINT"),
+    PRA("PRA");
+
+    private final String defaultFileType;
+
+    InputSlot(final String defaultFileType) {
+        this.defaultFileType = defaultFileType;
+    }
+
+    public String getDefaultFileType() {
+        return defaultFileType;
+    }
+}
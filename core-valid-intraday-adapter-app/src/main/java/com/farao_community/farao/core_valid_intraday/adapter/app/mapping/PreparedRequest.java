@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.mapping;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A task whose inputs and current run have been resolved and validated, and whose inputs only remain to be signed.
+ *
+ * @param taskDto                 task the request is built from
+ * @param runId                   id of the latest run of the task
+ * @param inputs                  task input feeding each run request input
+ * @param isLaunchedAutomatically whether the run is an automatic one
+ * @author agent {@literal <agent at local>}
+ */
+public record PreparedRequest(TaskDto taskDto,
+                              String runId,
+                              Map<InputSlot, ProcessFileDto> inputs,
+                              boolean isLaunchedAutomatically) {
+
+    /**
+     * @return the task inputs to sign
+     */
+    public Collection<ProcessFileDto> files() {
+        return inputs.values();
+    }
+}
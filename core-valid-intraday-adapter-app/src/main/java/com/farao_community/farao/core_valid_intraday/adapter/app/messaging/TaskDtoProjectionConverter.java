@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.messaging;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PayloadProjectionProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads inbound task payloads with a streaming parser into a projection of the task, keeping only what run
+ * requests are built from: id, timestamp, status, inputs and latest run of the run history, without its inputs.
+ * The rest of the payload is skipped without being bound, so that neither the run history nor the other lists
+ * of the task, which grow with every rerun of a long-lived timestamp, are materialized.
+ * Takes precedence over the default JSON conversion of tasks once enabled. Outbound tasks, as well as payloads
+ * carrying a list of tasks, are left to the default conversion.
+ * The projection is the task the adapter goes on with: a run request failing for good is dead-lettered with it
+ * rather than with the original payload, which replays the latest run only.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class TaskDtoProjectionConverter extends AbstractMessageConverter {
+
+    private final PayloadProjectionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader inputsReader;
+
+    public TaskDtoProjectionConverter(final PayloadProjectionProperties properties, final ObjectMapper objectMapper) {
+        super(MimeTypeUtils.APPLICATION_JSON);
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.inputsReader = objectMapper.readerForListOf(ProcessFileDto.class);
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return properties.enabled() && TaskDto.class.equals(clazz);
+    }
+
+    @Override
+    protected boolean canConvertTo(final Object payload, final MessageHeaders headers) {
+        return false;
+    }
+
+    @Override
+    protected Object convertFromInternal(final Message<?> message, final Class<?> targetClass, final Object conversionHint) {
+        final Object payload = message.getPayload();
+        if (!(payload instanceof byte[]) && !(payload instanceof String)) {
+            return null;
+        }
+        try (JsonParser parser = payload instanceof byte[] bytes ? objectMapper.createParser(bytes) : objectMapper.createParser((String) payload)) {
+            return readTask(parser);
+        } catch (final IOException | RuntimeException e) {
+            throw new MessageConversionException(message, "Failed to read task from payload", e);
+        }
+    }
+
+    private TaskDto readTask(final JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new MessageConversionException("Task payload is not a JSON object");
+        }
+        UUID id = null;
+        OffsetDateTime timestamp = null;
+        TaskStatus status = null;
+        List<ProcessFileDto> inputs = null;
+        ProcessRunDto latestRun = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = objectMapper.readValue(parser, UUID.class);
+                case "timestamp" -> timestamp = objectMapper.readValue(parser, OffsetDateTime.class);
+                case "status" -> status = objectMapper.readValue(parser, TaskStatus.class);
+                case "inputs" -> inputs = inputsReader.readValue(parser);
+                case "runHistory" -> latestRun = readLatestRun(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new TaskDto(id, timestamp, status, inputs, List.of(), List.of(), List.of(),
+                           latestRun == null ? List.of() : List.of(latestRun), List.of());
+    }
+
+    /**
+     * Scans the run history for the run with the latest execution date, the first one when several runs share it
+     * and skipping runs without execution date, as
+     * {@link com.farao_community.farao.core_valid_intraday.adapter.app.mapping.CoreValidIntradayRequestMapper#findLatestRun} does.
+     */
+    private ProcessRunDto readLatestRun(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        ProcessRunDto latestRun = null;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            UUID runId = null;
+            OffsetDateTime executionDate = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> runId = objectMapper.readValue(parser, UUID.class);
+                    case "executionDate" -> executionDate = objectMapper.readValue(parser, OffsetDateTime.class);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (executionDate != null && (latestRun == null || executionDate.isAfter(latestRun.getExecutionDate()))) {
+                latestRun = new ProcessRunDto(runId, executionDate, List.of());
+            }
+        }
+        return latestRun;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Timers, counters and gauges of the adapter hot path, from the reception of a task to its dispatch to the runner.
+ * Timers publish percentile histograms so that their distribution can be exposed by the actuator.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class CoreValidIntradayAdapterMetrics {
+
+    public static final String PREFIX = "core.valid.intraday.adapter.";
+    public static final String LAUNCH_TYPE_TAG = "launch.type";
+    public static final String FILE_TYPE_TAG = "file.type";
+    public static final String PARTITION_TAG = "partition";
+    public static final String OUTCOME_TAG = "outcome";
+    public static final String UNKNOWN_FILE_TYPE = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public CoreValidIntradayAdapterMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer taskHandlingTimer(final String launchType) {
+        return timer("task.handling", "Time spent handling a run request, from its reception to its dispatch", LAUNCH_TYPE_TAG, launchType);
+    }
+
+    public Timer requestMappingTimer(final String launchType) {
+        return timer("request.mapping", "Time spent turning a task into a runner request", LAUNCH_TYPE_TAG, launchType);
+    }
+
+    public Timer urlSigningTimer(final String fileType) {
+        return timer("url.signing", "Time spent getting the pre-signed URL of an input", FILE_TYPE_TAG, fileType);
+    }
+
+    public Timer preflightTimer(final String launchType) {
+        return timer("preflight", "Time spent checking that all the inputs of a request exist in MinIO", LAUNCH_TYPE_TAG, launchType);
+    }
+
+    public Timer runIdResolutionTimer(final String launchType) {
+        return timer("run.id.resolution", "Time spent finding the current run of a task", LAUNCH_TYPE_TAG, launchType);
+    }
+
+    public Timer schedulingWaitTimer(final String launchType) {
+        return timer("scheduling.wait", "Time spent by a run request waiting for its turn to be handled", LAUNCH_TYPE_TAG, launchType);
+    }
+
+    public Timer partitionWaitTimer(final String partition) {
+        return timer("partition.wait", "Time spent by a run request waiting for the previous ones of its partition", PARTITION_TAG, partition);
+    }
+
+    public Timer admissionWaitTimer(final String launchType) {
+        return timer("admission.wait", "Time spent by a request waiting for its admission to the dispatch", LAUNCH_TYPE_TAG, launchType);
+    }
+
+    public Timer dispatchTimer(final String launchType) {
+        return timer("dispatch", "Time spent handing a request over to the runner", LAUNCH_TYPE_TAG, launchType);
+    }
+
+    public void incrementNotReadyTasks(final String launchType) {
+        counter("tasks.not.ready", "Run requests rejected because their task is not ready", LAUNCH_TYPE_TAG, launchType).increment();
+    }
+
+    /**
+     * Counts an input of unknown file type under a fixed tag, file types sent by the task manager being unbounded.
+     */
+    public void incrementUnknownFileTypes() {
+        counter("files.unknown.type", "Inputs rejected because of an unknown file type", FILE_TYPE_TAG, UNKNOWN_FILE_TYPE).increment();
+    }
+
+    public void incrementPreflightRejections(final String fileType) {
+        counter("preflight.rejected", "Inputs found missing or empty in MinIO before dispatch", FILE_TYPE_TAG, fileType).increment();
+    }
+
+    public void incrementMissingRunHistories(final String launchType) {
+        counter("tasks.run.history.missing", "Run requests rejected because their task has no run history", LAUNCH_TYPE_TAG, launchType).increment();
+    }
+
+    public void incrementStaleRunRequests(final String launchType) {
+        counter("runs.stale", "Run requests dropped because a newer run of their task has already been dispatched", LAUNCH_TYPE_TAG, launchType).increment();
+    }
+
+    public void incrementThrottledRequests(final String launchType) {
+        counter("admission.throttled", "Requests held back because the limit of requests dispatched at the same time was reached", LAUNCH_TYPE_TAG, launchType).increment();
+    }
+
+    public void incrementRunIndexEvictions() {
+        Counter.builder(PREFIX + "run.index.evicted")
+                .description("Tasks evicted from the index of dispatched runs")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void registerRunIndexSize(final Map<?, ?> dispatchedRuns) {
+        Gauge.builder(PREFIX + "run.index.size", dispatchedRuns, Map::size)
+                .description("Tasks currently in the index of dispatched runs")
+                .register(meterRegistry);
+    }
+
+    public void incrementRetries(final String launchType) {
+        counter("retry.attempts", "Run requests retried after a transient error", LAUNCH_TYPE_TAG, launchType).increment();
+    }
+
+    public void incrementRetryOutcomes(final String launchType, final String outcome) {
+        Counter.builder(PREFIX + "retry.outcomes")
+                .description("Run requests handled with retry, by outcome")
+                .tag(LAUNCH_TYPE_TAG, launchType)
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer timer(final String name, final String description, final String tagKey, final String tagValue) {
+        return Timer.builder(PREFIX + name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(final String name, final String description, final String tagKey, final String tagValue) {
+        return Counter.builder(PREFIX + name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.minio;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayInvalidTaskException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PreflightProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.PreparedRequest;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.minio.MinioClient;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.AUTOMATIC;
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.MANUAL;
+
+/**
+ * Checks that all the inputs of a run request exist in MinIO and are not empty before it is dispatched, so that
+ * a missing or empty input rejects the task right away instead of failing the run once the runner downloads it.
+ * Inputs are checked concurrently and the first problem found fails the check. Metadata of existing inputs are
+ * cached by path along with their ETag: an input reported with the same last modification date is not checked again,
+ * while an input reported with a new one is validated against the cached ETag, so that only an input whose content
+ * actually changed in MinIO is checked again.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class InputPreflightChecker {
+
+    static final String CACHE_NAME = "input-metadata";
+    private static final Set<String> MISSING_OBJECT_CODES = Set.of("NoSuchKey", "NoSuchObject", "NoSuchBucket");
+    private static final String PRECONDITION_FAILED_CODE = "PreconditionFailed";
+
+    private final PreflightProperties properties;
+    private final CoreValidIntradayAdapterMetrics metrics;
+    private final MinioClient minioClient;
+    private final Cache<String, InputMetadata> inputMetadata;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public InputPreflightChecker(final PreflightProperties properties,
+                                 final ObjectProvider<MinioClient> minioClientProvider,
+                                 final CoreValidIntradayAdapterMetrics metrics,
+                                 final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.metrics = metrics;
+        if (properties.enabled()) {
+            this.minioClient = minioClientProvider.getIfAvailable();
+            if (minioClient == null || properties.bucket() == null || properties.bucket().isBlank()) {
+                throw new CoreValidIntradayAdapterException("Input pre-flight check requires a MinIO client and a bucket");
+            }
+            this.inputMetadata = Caffeine.newBuilder()
+                    .maximumSize(properties.cacheMaximumSize())
+                    .expireAfterWrite(properties.cacheExpireAfterWrite())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, inputMetadata, CACHE_NAME);
+        } else {
+            this.minioClient = null;
+            this.inputMetadata = null;
+        }
+    }
+
+    /**
+     * Checks the inputs of the prepared request, doing nothing when the pre-flight check is disabled.
+     *
+     * @throws CoreValidIntradayInvalidTaskException if an input is missing or empty
+     * @throws CoreValidIntradayAdapterException     if MinIO cannot be reached or does not answer in time
+     */
+    public void check(final PreparedRequest preparedRequest) {
+        if (!properties.enabled()) {
+            return;
+        }
+        metrics.preflightTimer(preparedRequest.isLaunchedAutomatically() ? AUTOMATIC : MANUAL)
+                .record(() -> checkInputs(preparedRequest));
+    }
+
+    private void checkInputs(final PreparedRequest preparedRequest) {
+        final long deadline = System.nanoTime() + properties.timeout().toNanos();
+        final ExecutorCompletionService<InputMetadata> completionService = new ExecutorCompletionService<>(executor);
+        final Map<String, Future<InputMetadata>> pendingChecks = new LinkedHashMap<>();
+        for (final ProcessFileDto processFile : preparedRequest.files()) {
+            pendingChecks.computeIfAbsent(processFile.getFilePath(), path -> completionService.submit(() -> checkInput(preparedRequest, processFile)));
+        }
+        try {
+            for (int checked = 0; checked < pendingChecks.size(); checked++) {
+                final Future<InputMetadata> check = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (check == null) {
+                    throw new CoreValidIntradayAdapterException("Pre-flight check of inputs did not complete within %s, %d out of %d inputs checked"
+                                                                .formatted(properties.timeout(), checked, pendingChecks.size()));
+                }
+                check.get();
+            }
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof CoreValidIntradayAdapterException adapterException) {
+                throw adapterException;
+            }
+            throw new CoreValidIntradayAdapterException("Failed to check inputs in MinIO", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreValidIntradayAdapterException("Interrupted during pre-flight check of inputs", e);
+        } finally {
+            pendingChecks.values().forEach(check -> check.cancel(true));
+        }
+    }
+
+    private InputMetadata checkInput(final PreparedRequest preparedRequest, final ProcessFileDto processFile) {
+        final String filePath = processFile.getFilePath();
+        final OffsetDateTime lastModificationDate = processFile.getLastModificationDate();
+        final InputMetadata cachedMetadata = inputMetadata.getIfPresent(filePath);
+        if (cachedMetadata != null) {
+            if (Objects.equals(cachedMetadata.lastModificationDate(), lastModificationDate)) {
+                return cachedMetadata;
+            }
+            if (isUnchanged(preparedRequest, processFile, cachedMetadata.etag())) {
+                final InputMetadata revalidatedMetadata = new InputMetadata(lastModificationDate, cachedMetadata.etag(), cachedMetadata.size());
+                inputMetadata.put(filePath, revalidatedMetadata);
+                return revalidatedMetadata;
+            }
+        }
+        final StatObjectResponse response = stat(preparedRequest, processFile, null);
+        if (response.size() <= 0) {
+            metrics.incrementPreflightRejections(processFile.getFileType());
+            throw new CoreValidIntradayInvalidTaskException("Input %s %s of task on timestamp %s is empty in MinIO"
+                                                            .formatted(processFile.getFileType(), filePath, preparedRequest.taskDto().getTimestamp()));
+        }
+        // Only existing and non-empty inputs are cached, so that a missing input is seen as soon as it is uploaded
+        final InputMetadata metadata = new InputMetadata(lastModificationDate, response.etag(), response.size());
+        inputMetadata.put(filePath, metadata);
+        return metadata;
+    }
+
+    private boolean isUnchanged(final PreparedRequest preparedRequest, final ProcessFileDto processFile, final String etag) {
+        try {
+            stat(preparedRequest, processFile, etag);
+            return true;
+        } catch (final CoreValidIntradayAdapterException e) {
+            if (e.getCause() instanceof ErrorResponseException errorResponseException
+                && errorResponseException.errorResponse() != null
+                && PRECONDITION_FAILED_CODE.equals(errorResponseException.errorResponse().code())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private StatObjectResponse stat(final PreparedRequest preparedRequest, final ProcessFileDto processFile, final String matchETag) {
+        try {
+            return minioClient.statObject(StatObjectArgs.builder()
+                                              .bucket(properties.bucket())
+                                              .object(processFile.getFilePath())
+                                              .matchETag(matchETag)
+                                              .build());
+        } catch (final ErrorResponseException e) {
+            if (e.errorResponse() != null && MISSING_OBJECT_CODES.contains(e.errorResponse().code())) {
+                inputMetadata.invalidate(processFile.getFilePath());
+                metrics.incrementPreflightRejections(processFile.getFileType());
+                throw new CoreValidIntradayInvalidTaskException("Input %s %s of task on timestamp %s is missing in MinIO"
+                                                                .formatted(processFile.getFileType(), processFile.getFilePath(), preparedRequest.taskDto().getTimestamp()));
+            }
+            throw new CoreValidIntradayAdapterException("Failed to check input %s in MinIO".formatted(processFile.getFilePath()), e);
+        } catch (final Exception e) {
+            throw new CoreValidIntradayAdapterException("Failed to check input %s in MinIO".formatted(processFile.getFilePath()), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    record InputMetadata(OffsetDateTime lastModificationDate, String etag, long size) {
+    }
+}
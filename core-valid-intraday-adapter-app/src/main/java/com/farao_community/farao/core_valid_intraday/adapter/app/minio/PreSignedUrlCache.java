@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.minio;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PreSignedUrlCacheProperties;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Bounded cache of MinIO pre-signed URLs indexed by MinIO path.
+ * URLs are signed for the configured URL lifetime, which MinIO only accepts as a whole number of hours.
+ * A URL is handed back as long as it keeps the configured minimum remaining lifetime, and is signed again
+ * in the background when it gets close to its eviction. Hits, misses and evictions are published as
+ * {@code cache.*} metrics tagged with {@code cache=pre-signed-urls}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class PreSignedUrlCache {
+
+    static final String CACHE_NAME = "pre-signed-urls";
+
+    private final MinioAdapter minioAdapter;
+    private final int urlExpirationHours;
+    private final LoadingCache<String, String> urls;
+
+    @Autowired
+    public PreSignedUrlCache(final MinioAdapter minioAdapter,
+                             final PreSignedUrlCacheProperties properties,
+                             final MeterRegistry meterRegistry) {
+        this(minioAdapter, properties, meterRegistry, Ticker.systemTicker(), Thread::startVirtualThread);
+    }
+
+    /**
+     * @param ticker   time source of the cache
+     * @param executor executor of the background signatures
+     */
+    PreSignedUrlCache(final MinioAdapter minioAdapter,
+                      final PreSignedUrlCacheProperties properties,
+                      final MeterRegistry meterRegistry,
+                      final Ticker ticker,
+                      final Executor executor) {
+        this.minioAdapter = minioAdapter;
+        this.urlExpirationHours = toExpirationHours(properties.urlLifetime());
+        this.urls = properties.enabled() ? buildCache(properties, meterRegistry, ticker, executor) : null;
+    }
+
+    private static int toExpirationHours(final Duration urlLifetime) {
+        if (!urlLifetime.isPositive() || !urlLifetime.equals(Duration.ofHours(urlLifetime.toHours()))) {
+            throw new CoreValidIntradayAdapterException("Pre-signed URL lifetime %s must be a positive whole number of hours".formatted(urlLifetime));
+        }
+        return Math.toIntExact(urlLifetime.toHours());
+    }
+
+    private LoadingCache<String, String> buildCache(final PreSignedUrlCacheProperties properties,
+                                                    final MeterRegistry meterRegistry,
+                                                    final Ticker ticker,
+                                                    final Executor executor) {
+        final Duration reuseDuration = properties.reuseDuration();
+        if (reuseDuration.isNegative() || reuseDuration.isZero()) {
+            throw new CoreValidIntradayAdapterException("Pre-signed URL minimum remaining lifetime %s must be shorter than URL lifetime %s"
+                                                        .formatted(properties.minimumRemainingLifetime(), properties.urlLifetime()));
+        }
+        final Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(reuseDuration)
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats();
+        final Duration refreshAfter = reuseDuration.minus(properties.refreshAhead());
+        if (refreshAfter.isPositive()) {
+            builder.refreshAfterWrite(refreshAfter);
+        }
+        final LoadingCache<String, String> cache = builder.build(this::sign);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        return cache;
+    }
+
+    /**
+     * @return a pre-signed URL of the given MinIO path, either cached or freshly signed
+     */
+    public String getPreSignedUrl(final String filePath) {
+        return urls == null ? sign(filePath) : urls.get(filePath);
+    }
+
+    private String sign(final String filePath) {
+        return minioAdapter.generatePreSignedUrlFromFullMinioPath(filePath, urlExpirationHours);
+    }
+}
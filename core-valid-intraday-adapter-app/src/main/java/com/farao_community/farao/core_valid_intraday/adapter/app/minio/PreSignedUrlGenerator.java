@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.minio;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.UrlSigningProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the MinIO pre-signed URLs of a request concurrently, so that the time needed
+ * to sign all the inputs is driven by the slowest file rather than by the sum of all of them.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class PreSignedUrlGenerator {
+
+    private final PreSignedUrlCache preSignedUrlCache;
+    private final UrlSigningProperties properties;
+    private final CoreValidIntradayAdapterMetrics metrics;
+    private final Semaphore signingPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PreSignedUrlGenerator(final PreSignedUrlCache preSignedUrlCache,
+                                 final UrlSigningProperties properties,
+                                 final CoreValidIntradayAdapterMetrics metrics) {
+        this.preSignedUrlCache = preSignedUrlCache;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.signingPermits = new Semaphore(properties.maxConcurrency());
+    }
+
+    /**
+     * Signs the MinIO paths of all the given files, each distinct path being signed only once.
+     * Fails as soon as one of the paths cannot be signed or when the configured timeout is exceeded,
+     * cancelling the signatures still in progress.
+     *
+     * @return pre-signed URLs indexed by MinIO path
+     */
+    public Map<String, String> generatePreSignedUrls(final Collection<ProcessFileDto> processFiles) {
+        final long deadline = System.nanoTime() + properties.timeout().toNanos();
+        final ExecutorCompletionService<Map.Entry<String, String>> completionService = new ExecutorCompletionService<>(executor);
+        final Map<String, Future<Map.Entry<String, String>>> pendingSignatures = new LinkedHashMap<>();
+        for (final ProcessFileDto processFile : processFiles) {
+            pendingSignatures.computeIfAbsent(processFile.getFilePath(), path -> completionService.submit(() -> Map.entry(path, sign(processFile))));
+        }
+        final Map<String, String> urls = new HashMap<>();
+        try {
+            while (urls.size() < pendingSignatures.size()) {
+                final Future<Map.Entry<String, String>> signature = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (signature == null) {
+                    throw new CoreValidIntradayAdapterException("Pre-signed URLs generation did not complete within %s, %d out of %d URLs generated"
+                                                                .formatted(properties.timeout(), urls.size(), pendingSignatures.size()));
+                }
+                final Map.Entry<String, String> url = signature.get();
+                urls.put(url.getKey(), url.getValue());
+            }
+            return urls;
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof CoreValidIntradayAdapterException adapterException) {
+                throw adapterException;
+            }
+            throw new CoreValidIntradayAdapterException("Failed to generate pre-signed URLs", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreValidIntradayAdapterException("Interrupted during pre-signed URLs generation", e);
+        } finally {
+            pendingSignatures.values().forEach(signature -> signature.cancel(true));
+        }
+    }
+
+    private String sign(final ProcessFileDto processFile) {
+        final String filePath = processFile.getFilePath();
+        try {
+            signingPermits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreValidIntradayAdapterException("Interrupted while waiting to sign file %s".formatted(filePath), e);
+        }
+        try {
+            return metrics.urlSigningTimer(processFile.getFileType()).record(() -> preSignedUrlCache.getPreSignedUrl(filePath));
+        } catch (final Exception e) {
+            throw new CoreValidIntradayAdapterException("Failed to generate pre-signed URL for file %s".formatted(filePath), e);
+        } finally {
+            signingPermits.release();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
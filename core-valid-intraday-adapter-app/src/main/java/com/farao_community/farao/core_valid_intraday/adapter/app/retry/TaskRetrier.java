@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.retry;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayInvalidTaskException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.RetryProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.UnknownFileTypeException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.AUTOMATIC;
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.MANUAL;
+
+/**
+ * Retries run requests failing because of a transient error, such as a MinIO or runner hiccup, with a jittered
+ * exponential backoff, instead of relying on broker redelivery. Run requests failing because of their content are
+ * not retried. Once failed for good, run requests are sent to the dead-letter destination if one is configured,
+ * otherwise the failure is thrown back to the binder. Failures of run requests whose message is acknowledged
+ * regardless, such as the tasks of a batch, are reported on their own instead.
+ * <p>
+ * Backoff delays are spent on the listener thread, which holds back the consumption of new messages meanwhile.
+ * Run requests completing asynchronously, once their message is acknowledged, are retried on a virtual thread
+ * after their backoff delay instead, and are reported on their own once failed for good.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class TaskRetrier {
+
+    public static final String SUCCEEDED = "succeeded";
+    public static final String RECOVERED = "recovered";
+    public static final String PERMANENT_FAILURE = "permanent-failure";
+    public static final String EXHAUSTED = "exhausted";
+    public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+    public static final String FAILURE_REASON_HEADER = "x-failure-reason";
+    public static final String ATTEMPTS_HEADER = "x-attempts";
+    public static final String LAUNCH_TYPE_HEADER = "x-launch-type";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskRetrier.class);
+
+    private final RetryProperties properties;
+    private final StreamBridge streamBridge;
+    private final CoreValidIntradayAdapterMetrics metrics;
+
+    public TaskRetrier(final RetryProperties properties,
+                       final StreamBridge streamBridge,
+                       final CoreValidIntradayAdapterMetrics metrics) {
+        this.properties = properties;
+        this.streamBridge = streamBridge;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Runs the handler of the run request, again after a backoff delay as long as it fails because of a transient
+     * error and the maximum number of attempts is not reached.
+     */
+    public void execute(final TaskDto taskDto, final boolean isLaunchedAutomatically, final Runnable handler) {
+        execute(taskDto, isLaunchedAutomatically, () -> {
+            handler.run();
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * Runs the handler of the run request, whose returned future completes once the run request has been handled.
+     * Failures thrown by the handler are retried on the calling thread as with a synchronous handler. Failures
+     * completing the future happen once the message is acknowledged: they are retried from a virtual thread, and
+     * reported as per {@link #reportFailure} once failed for good, whether the retries are enabled or not.
+     */
+    public void execute(final TaskDto taskDto, final boolean isLaunchedAutomatically, final Supplier<CompletableFuture<?>> handler) {
+        execute(taskDto, isLaunchedAutomatically, handler, 1);
+    }
+
+    private void execute(final TaskDto taskDto,
+                         final boolean isLaunchedAutomatically,
+                         final Supplier<CompletableFuture<?>> handler,
+                         final int firstAttempt) {
+        final String launchType = isLaunchedAutomatically ? AUTOMATIC : MANUAL;
+        for (int attempt = firstAttempt; ; attempt++) {
+            final CompletableFuture<?> completion;
+            try {
+                completion = handler.get();
+            } catch (final RuntimeException e) {
+                if (!properties.enabled()) {
+                    throw e;
+                }
+                if (isPermanent(e)) {
+                    fail(taskDto, launchType, PERMANENT_FAILURE, attempt, e);
+                    return;
+                }
+                if (attempt >= properties.maxAttempts()) {
+                    fail(taskDto, launchType, EXHAUSTED, attempt, e);
+                    return;
+                }
+                final long backoff = getBackoffMillis(attempt);
+                LOGGER.warn("Attempt {} of {} run request on TS {} failed, retrying in {} ms", attempt, launchType, taskDto.getTimestamp(), backoff, e);
+                metrics.incrementRetries(launchType);
+                sleep(backoff, e);
+                continue;
+            }
+            final int completedAttempt = attempt;
+            completion.whenComplete((result, failure) -> {
+                if (failure == null) {
+                    if (properties.enabled()) {
+                        metrics.incrementRetryOutcomes(launchType, completedAttempt == 1 ? SUCCEEDED : RECOVERED);
+                    }
+                } else {
+                    onAsynchronousFailure(taskDto, isLaunchedAutomatically, handler, completedAttempt, unwrap(failure));
+                }
+            });
+            return;
+        }
+    }
+
+    private void onAsynchronousFailure(final TaskDto taskDto,
+                                       final boolean isLaunchedAutomatically,
+                                       final Supplier<CompletableFuture<?>> handler,
+                                       final int attempt,
+                                       final RuntimeException failure) {
+        final String launchType = isLaunchedAutomatically ? AUTOMATIC : MANUAL;
+        if (!properties.enabled()) {
+            reportFailure(taskDto, isLaunchedAutomatically, failure);
+            return;
+        }
+        if (isPermanent(failure)) {
+            metrics.incrementRetryOutcomes(launchType, PERMANENT_FAILURE);
+            report(taskDto, launchType, PERMANENT_FAILURE, attempt, failure);
+            return;
+        }
+        if (attempt >= properties.maxAttempts()) {
+            metrics.incrementRetryOutcomes(launchType, EXHAUSTED);
+            report(taskDto, launchType, EXHAUSTED, attempt, failure);
+            return;
+        }
+        final long backoff = getBackoffMillis(attempt);
+        LOGGER.warn("Attempt {} of {} run request on TS {} failed, retrying in {} ms", attempt, launchType, taskDto.getTimestamp(), backoff, failure);
+        metrics.incrementRetries(launchType);
+        CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS, Thread::startVirtualThread).execute(() -> {
+            try {
+                execute(taskDto, isLaunchedAutomatically, handler, attempt + 1);
+            } catch (final RuntimeException e) {
+                reportFailure(taskDto, isLaunchedAutomatically, e);
+            }
+        });
+    }
+
+    private static RuntimeException unwrap(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof RuntimeException runtimeException ? runtimeException : new CoreValidIntradayAdapterException(cause.getMessage(), cause);
+    }
+
+    /**
+     * Reports the failure of a run request whose message is acknowledged regardless, such as a task of a batch, so
+     * that it is not lost along with the message: the run request is sent to the dead-letter destination if one is
+     * configured, otherwise the failure is logged. Nothing is thrown.
+     */
+    public void reportFailure(final TaskDto taskDto, final boolean isLaunchedAutomatically, final RuntimeException failure) {
+        final boolean permanent = isPermanent(failure);
+        final int attempts = properties.enabled() && !permanent ? properties.maxAttempts() : 1;
+        report(taskDto, isLaunchedAutomatically ? AUTOMATIC : MANUAL, permanent ? PERMANENT_FAILURE : EXHAUSTED, attempts, failure);
+    }
+
+    private void report(final TaskDto taskDto,
+                        final String launchType,
+                        final String reason,
+                        final int attempts,
+                        final RuntimeException failure) {
+        if (!properties.deadLetteringEnabled()) {
+            LOGGER.error("Error during handling of {} run request on TS {}, no dead-letter destination is set", launchType, taskDto.getTimestamp(), failure);
+            return;
+        }
+        LOGGER.error("Sending {} run request on TS {} to dead-letter destination after {} attempt(s)", launchType, taskDto.getTimestamp(), attempts, failure);
+        try {
+            sendToDeadLetter(taskDto, launchType, reason, attempts, failure);
+        } catch (final CoreValidIntradayAdapterException e) {
+            LOGGER.error("Failed to send {} run request on TS {} to dead-letter destination", launchType, taskDto.getTimestamp(), e);
+        }
+    }
+
+    static boolean isPermanent(final Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CoreValidIntradayInvalidTaskException || cause instanceof UnknownFileTypeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the exponential delay before the retry following the given attempt, shortened by a random share
+     * of at most the configured jitter
+     */
+    long getBackoffMillis(final int attempt) {
+        final double exponentialBackoff = properties.initialBackoff().toMillis() * Math.pow(properties.multiplier(), attempt - 1.0);
+        final double backoff = Math.min(exponentialBackoff, properties.maxBackoff().toMillis());
+        return (long) (backoff * (1 - properties.jitter() * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    private static void sleep(final long backoff, final RuntimeException failure) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(backoff);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+
+    private void fail(final TaskDto taskDto,
+                      final String launchType,
+                      final String reason,
+                      final int attempts,
+                      final RuntimeException failure) {
+        metrics.incrementRetryOutcomes(launchType, reason);
+        if (!properties.deadLetteringEnabled()) {
+            throw failure;
+        }
+        LOGGER.error("Sending {} run request on TS {} to dead-letter destination after {} attempt(s)", launchType, taskDto.getTimestamp(), attempts, failure);
+        sendToDeadLetter(taskDto, launchType, reason, attempts, failure);
+    }
+
+    private void sendToDeadLetter(final TaskDto taskDto,
+                                  final String launchType,
+                                  final String reason,
+                                  final int attempts,
+                                  final RuntimeException failure) {
+        final Message<TaskDto> deadLetter = MessageBuilder.withPayload(taskDto)
+                .setHeader(EXCEPTION_MESSAGE_HEADER, failure.getMessage())
+                .setHeader(FAILURE_REASON_HEADER, reason)
+                .setHeader(ATTEMPTS_HEADER, attempts)
+                .setHeader(LAUNCH_TYPE_HEADER, launchType)
+                .build();
+        final boolean sent;
+        try {
+            sent = streamBridge.send(properties.deadLetterDestination(), deadLetter);
+        } catch (final RuntimeException e) {
+            failure.addSuppressed(e);
+            throw new CoreValidIntradayAdapterException("Failed to send %s run request on TS %s to dead-letter destination"
+                                                        .formatted(launchType, taskDto.getTimestamp()), failure);
+        }
+        if (!sent) {
+            throw new CoreValidIntradayAdapterException("Failed to send %s run request on TS %s to dead-letter destination"
+                                                        .formatted(launchType, taskDto.getTimestamp()), failure);
+        }
+    }
+}
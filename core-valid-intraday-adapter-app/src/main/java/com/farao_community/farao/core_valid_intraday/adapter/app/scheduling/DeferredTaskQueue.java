@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.scheduling;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DeferredRecheckProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.taskmanager.TaskManagerClient;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Parks run requests whose task is not ready yet and checks their task again at regular intervals, handing them over
+ * as soon as the task is ready, until their deadline. Only the id and timestamp of a parked task are kept, its current
+ * state being fetched from the task manager at each check, and the number of parked run requests is bounded.
+ * A newer message for a parked task supersedes the parked run request.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class DeferredTaskQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeferredTaskQueue.class);
+
+    private final DeferredRecheckProperties properties;
+    private final TaskManagerClient taskManagerClient;
+    private final Map<UUID, ParkedTask> parkedTasks = new ConcurrentHashMap<>();
+    private final Semaphore parkingPermits;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("deferred-task-queue").factory());
+    private final Counter rechecksCounter;
+    private final Counter releasedCounter;
+    private final Counter expiredCounter;
+    private final Counter supersededCounter;
+    private final Counter rejectedCounter;
+
+    public DeferredTaskQueue(final DeferredRecheckProperties properties,
+                             final TaskManagerClient taskManagerClient,
+                             final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.taskManagerClient = taskManagerClient;
+        this.parkingPermits = new Semaphore(properties.maxParkedTasks());
+        this.rechecksCounter = counter(meterRegistry, "rechecks", "Checks of the task of a parked run request");
+        this.releasedCounter = counter(meterRegistry, "released", "Parked run requests handed over once their task got ready");
+        this.expiredCounter = counter(meterRegistry, "expired", "Parked run requests dropped because their task was still not ready at their deadline");
+        this.supersededCounter = counter(meterRegistry, "superseded", "Parked run requests superseded by a newer message for the same task");
+        this.rejectedCounter = counter(meterRegistry, "rejected", "Run requests dropped because the maximum number of parked run requests was reached");
+        Gauge.builder("core.valid.intraday.adapter.deferred.parked", parkedTasks, Map::size)
+                .description("Run requests currently parked until their task gets ready")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String name, final String description) {
+        return Counter.builder("core.valid.intraday.adapter.deferred." + name)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Parks the run request until its task gets ready, the given handler being called with the ready task.
+     * Does nothing when re-checking is disabled.
+     */
+    public void park(final TaskDto taskDto, final boolean isLaunchedAutomatically, final Consumer<TaskDto> handler) {
+        if (!properties.enabled()) {
+            return;
+        }
+        final UUID taskId = taskDto.getId();
+        final ParkedTask parkedTask = new ParkedTask(taskId, taskDto.getTimestamp(), isLaunchedAutomatically, handler,
+                                                     System.nanoTime() + properties.deadline().toNanos());
+        final AtomicReference<ParkedTask> supersededTaskHolder = new AtomicReference<>();
+        // A run request superseding a parked one takes its place, any other one needs a free place
+        final ParkedTask registeredTask = parkedTasks.compute(taskId, (id, currentTask) -> {
+            if (currentTask == null && !parkingPermits.tryAcquire()) {
+                return null;
+            }
+            supersededTaskHolder.set(currentTask);
+            return parkedTask;
+        });
+        if (registeredTask == null) {
+            rejectedCounter.increment();
+            LOGGER.warn("Run request on timestamp {} dropped, {} run requests already waiting for their task to get ready",
+                        taskDto.getTimestamp(), properties.maxParkedTasks());
+            return;
+        }
+        final ParkedTask supersededTask = supersededTaskHolder.get();
+        if (supersededTask != null) {
+            supersededTask.cancel();
+            supersededCounter.increment();
+        }
+        LOGGER.info("Run request on timestamp {} parked until its task gets ready", taskDto.getTimestamp());
+        parkedTask.schedule();
+    }
+
+    /**
+     * Drops the parked run request of the task, if any, superseded by a newer message.
+     */
+    public void discard(final TaskDto taskDto) {
+        final ParkedTask supersededTask = parkedTasks.remove(taskDto.getId());
+        if (supersededTask != null) {
+            parkingPermits.release();
+            supersededTask.cancel();
+            supersededCounter.increment();
+        }
+    }
+
+    private void recheck(final ParkedTask parkedTask) {
+        if (parkedTasks.get(parkedTask.taskId) != parkedTask) {
+            return;
+        }
+        rechecksCounter.increment();
+        TaskDto taskDto = null;
+        try {
+            taskDto = taskManagerClient.getTask(parkedTask.timestamp);
+        } catch (final Exception e) {
+            LOGGER.warn("Failed to check task of parked run request on timestamp {}", parkedTask.timestamp, e);
+        }
+        if (taskDto != null && CoreValidIntradayAdapterListener.isReadyOrFinished(taskDto)) {
+            release(parkedTask, taskDto);
+        } else if (System.nanoTime() - parkedTask.deadline >= 0) {
+            if (unpark(parkedTask)) {
+                expiredCounter.increment();
+                LOGGER.warn("Parked run request on timestamp {} dropped, its task is still not ready after {}", parkedTask.timestamp, properties.deadline());
+            }
+        } else {
+            parkedTask.schedule();
+        }
+    }
+
+    private void release(final ParkedTask parkedTask, final TaskDto taskDto) {
+        // Only the run request still registered for its task may be released, any other one has been superseded
+        if (unpark(parkedTask)) {
+            releasedCounter.increment();
+            LOGGER.info("Task on timestamp {} is now ready, handling its parked {} run request", parkedTask.timestamp,
+                        parkedTask.isLaunchedAutomatically ? CoreValidIntradayAdapterListener.AUTOMATIC : CoreValidIntradayAdapterListener.MANUAL);
+            try {
+                parkedTask.handler.accept(taskDto);
+            } catch (final Exception e) {
+                LOGGER.error("Parked run request on timestamp {} could not be handled", parkedTask.timestamp, e);
+            }
+        }
+    }
+
+    private boolean unpark(final ParkedTask parkedTask) {
+        if (parkedTasks.remove(parkedTask.taskId, parkedTask)) {
+            parkingPermits.release();
+            return true;
+        }
+        return false;
+    }
+
+    int getParkedCount() {
+        return parkedTasks.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private final class ParkedTask {
+        private final UUID taskId;
+        private final OffsetDateTime timestamp;
+        private final boolean isLaunchedAutomatically;
+        private final Consumer<TaskDto> handler;
+        private final long deadline;
+        private volatile ScheduledFuture<?> recheckTimer;
+
+        private ParkedTask(final UUID taskId,
+                           final OffsetDateTime timestamp,
+                           final boolean isLaunchedAutomatically,
+                           final Consumer<TaskDto> handler,
+                           final long deadline) {
+            this.taskId = taskId;
+            this.timestamp = timestamp;
+            this.isLaunchedAutomatically = isLaunchedAutomatically;
+            this.handler = handler;
+            this.deadline = deadline;
+        }
+
+        private void schedule() {
+            // Checks run on their own virtual thread, so that a slow task manager does not hold back the other ones
+            recheckTimer = timer.schedule(() -> Thread.startVirtualThread(() -> recheck(this)),
+                                          properties.interval().toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private void cancel() {
+            final ScheduledFuture<?> scheduledRecheck = recheckTimer;
+            if (scheduledRecheck != null) {
+                scheduledRecheck.cancel(false);
+            }
+        }
+    }
+}
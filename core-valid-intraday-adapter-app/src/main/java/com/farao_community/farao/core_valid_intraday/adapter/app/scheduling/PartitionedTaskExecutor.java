@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.scheduling;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PartitioningProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics.PARTITION_TAG;
+import static com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics.PREFIX;
+
+/**
+ * Spreads run requests over partitions by timestamp: each partition has its own virtual thread handling its run
+ * requests one after the other in their order of arrival, so that two messages of a same timestamp are never handled
+ * in parallel, while messages of different timestamps are handled concurrently when the listener concurrency allows it.
+ * <p>
+ * The listener thread waits for its run request to be handled, so that messages are only acknowledged once handled
+ * and failures are reported to the binder as before. Only the handling itself runs on the partition: retry backoffs
+ * and scheduling waits happen on the listener thread beforehand, so a retried run request may be overtaken by a newer
+ * one of its timestamp. When partitioning is disabled, run requests are handled right away on the listener thread.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class PartitionedTaskExecutor {
+
+    private final PartitioningProperties properties;
+    private final ThreadPoolExecutor[] partitions;
+    private final Timer[] waitTimers;
+
+    public PartitionedTaskExecutor(final PartitioningProperties properties,
+                                   final CoreValidIntradayAdapterMetrics metrics,
+                                   final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.partitions = new ThreadPoolExecutor[properties.partitions()];
+        this.waitTimers = new Timer[properties.partitions()];
+        for (int i = 0; i < partitions.length; i++) {
+            final String partition = String.valueOf(i);
+            partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                                                   Thread.ofVirtual().name("task-partition-" + partition).factory());
+            waitTimers[i] = metrics.partitionWaitTimer(partition);
+            Gauge.builder(PREFIX + "partition.lag", partitions[i], executor -> executor.getQueue().size())
+                    .description("Run requests waiting for the previous ones of their partition to be handled")
+                    .tag(PARTITION_TAG, partition)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Runs the task on the partition of the task timestamp and waits for it to be over, failures being thrown back
+     * to the caller.
+     */
+    public void execute(final TaskDto taskDto, final Runnable task) {
+        if (!properties.enabled()) {
+            task.run();
+            return;
+        }
+        final int partition = getPartition(taskDto);
+        final long submitTime = System.nanoTime();
+        final Future<?> execution = partitions[partition].submit(() -> {
+            waitTimers[partition].record(System.nanoTime() - submitTime, TimeUnit.NANOSECONDS);
+            task.run();
+        });
+        try {
+            execution.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CoreValidIntradayAdapterException("Error during handling of run request on TS %s".formatted(taskDto.getTimestamp()), e.getCause());
+        } catch (final InterruptedException e) {
+            execution.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new CoreValidIntradayAdapterException("Interrupted while waiting for run request on TS %s to be handled".formatted(taskDto.getTimestamp()), e);
+        }
+    }
+
+    /**
+     * @return the partition of the task, instants being used so that a same timestamp always lands on the same partition
+     * whatever its offset
+     */
+    int getPartition(final TaskDto taskDto) {
+        return Math.floorMod(taskDto.getTimestamp().toInstant().hashCode(), partitions.length);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (final ThreadPoolExecutor partition : partitions) {
+            partition.shutdownNow();
+        }
+    }
+}
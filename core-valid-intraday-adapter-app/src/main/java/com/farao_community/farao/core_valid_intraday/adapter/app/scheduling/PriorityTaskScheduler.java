@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.scheduling;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.SchedulingProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.AUTOMATIC;
+import static com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener.MANUAL;
+import static com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics.LAUNCH_TYPE_TAG;
+import static com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics.PREFIX;
+
+/**
+ * Shares the processing capacity between manual and automatic run requests, so that an operator's manual rerun
+ * does not wait behind an automatic backlog. Each launch type has its own waiting queue and concurrency limit,
+ * and manual run requests get the free capacity first, either always or, with the weighted policy, up to a given
+ * number of times in a row while automatic ones are waiting.
+ * <p>
+ * A run request is handled on the thread that submits it once its turn has come: the listener thread is held
+ * until then, so that waiting messages stay unacknowledged in the broker.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class PriorityTaskScheduler {
+
+    private final SchedulingProperties properties;
+    private final CoreValidIntradayAdapterMetrics metrics;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TaskQueue manualQueue;
+    private final TaskQueue automaticQueue;
+    private int running;
+    private int consecutiveManualTurns;
+
+    public PriorityTaskScheduler(final SchedulingProperties properties,
+                                 final CoreValidIntradayAdapterMetrics metrics,
+                                 final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.manualQueue = new TaskQueue(MANUAL, properties.manualConcurrency());
+        this.automaticQueue = new TaskQueue(AUTOMATIC, properties.automaticConcurrency());
+        for (final TaskQueue queue : new TaskQueue[]{manualQueue, automaticQueue}) {
+            Gauge.builder(PREFIX + "scheduling.queue.depth", queue, this::getQueueDepth)
+                    .description("Run requests waiting for their turn to be handled")
+                    .tag(LAUNCH_TYPE_TAG, queue.launchType)
+                    .register(meterRegistry);
+            Gauge.builder(PREFIX + "scheduling.running", queue, this::getRunningCount)
+                    .description("Run requests currently being handled")
+                    .tag(LAUNCH_TYPE_TAG, queue.launchType)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Runs the task on the calling thread once its turn has come, or right away when scheduling is disabled.
+     */
+    public void execute(final boolean isLaunchedAutomatically, final Runnable task) {
+        if (!properties.enabled()) {
+            task.run();
+            return;
+        }
+        final TaskQueue queue = isLaunchedAutomatically ? automaticQueue : manualQueue;
+        final long waitStart = System.nanoTime();
+        awaitTurn(queue);
+        metrics.schedulingWaitTimer(queue.launchType).record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        try {
+            task.run();
+        } finally {
+            release(queue);
+        }
+    }
+
+    private void awaitTurn(final TaskQueue queue) {
+        lock.lock();
+        try {
+            final Turn turn = new Turn();
+            queue.waiting.add(turn);
+            grantTurns();
+            try {
+                while (!turn.granted) {
+                    turn.condition.await();
+                }
+            } catch (final InterruptedException e) {
+                if (turn.granted) {
+                    releaseLocked(queue);
+                } else {
+                    queue.waiting.remove(turn);
+                }
+                Thread.currentThread().interrupt();
+                throw new CoreValidIntradayAdapterException("Interrupted while waiting to handle %s run request".formatted(queue.launchType), e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(final TaskQueue queue) {
+        lock.lock();
+        try {
+            releaseLocked(queue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked(final TaskQueue queue) {
+        queue.running--;
+        running--;
+        grantTurns();
+    }
+
+    private void grantTurns() {
+        while (running < properties.maxConcurrency()) {
+            final TaskQueue queue = nextQueue();
+            if (queue == null) {
+                return;
+            }
+            final Turn turn = queue.waiting.remove();
+            queue.running++;
+            running++;
+            turn.granted = true;
+            turn.condition.signal();
+        }
+    }
+
+    private TaskQueue nextQueue() {
+        final boolean manualEligible = manualQueue.isEligible();
+        final boolean automaticEligible = automaticQueue.isEligible();
+        if (!automaticEligible) {
+            return manualEligible ? manualQueue : null;
+        }
+        if (manualEligible && (properties.policy() == SchedulingProperties.Policy.STRICT || consecutiveManualTurns < properties.manualWeight())) {
+            consecutiveManualTurns++;
+            return manualQueue;
+        }
+        consecutiveManualTurns = 0;
+        return automaticQueue;
+    }
+
+    private int getQueueDepth(final TaskQueue queue) {
+        lock.lock();
+        try {
+            return queue.waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int getRunningCount(final TaskQueue queue) {
+        lock.lock();
+        try {
+            return queue.running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class TaskQueue {
+        private final String launchType;
+        private final int concurrency;
+        private final Queue<Turn> waiting = new ArrayDeque<>();
+        private int running;
+
+        private TaskQueue(final String launchType, final int concurrency) {
+            this.launchType = launchType;
+            this.concurrency = concurrency;
+        }
+
+        private boolean isEligible() {
+            return !waiting.isEmpty() && running < concurrency;
+        }
+    }
+
+    private final class Turn {
+        private final Condition condition = lock.newCondition();
+        private boolean granted;
+    }
+}
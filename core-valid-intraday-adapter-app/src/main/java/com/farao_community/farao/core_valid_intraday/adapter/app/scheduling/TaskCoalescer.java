@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.scheduling;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.CoalescingProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.CoreValidIntradayRequestMapper;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Collapses bursts of identical messages: messages sharing the same task id and latest run id are held
+ * until no new one has arrived during the configured quiet window, or until the maximum wait since the first
+ * of them, then only the newest one is handled. Senders are blocked until their message has been handled,
+ * so that it is only acknowledged once done, and superseded messages share the outcome of the one handled
+ * in their place. Pending messages are handled right away on shutdown.
+ * <p>
+ * Since a held message blocks its listener thread, it can only be collapsed with identical messages received on
+ * other listener threads: coalescing refuses to start unless the automatic binding has several of them.
+ * When coalescing is disabled, messages are handled right away on the calling thread.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class TaskCoalescer {
+
+    public static final String AUTOMATIC_BINDING = "consumeAutoTask-in-0";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskCoalescer.class);
+
+    private final CoalescingProperties properties;
+    private final ScheduledExecutorService timer;
+    private final LongSupplier ticker;
+    private final Map<CoalescingKey, PendingGroup> pendingGroups = new ConcurrentHashMap<>();
+    private final Semaphore pendingPermits;
+    private final Counter collapsedCounter;
+    private final Counter releasedCounter;
+    private final Counter overflowCounter;
+    private volatile boolean closed;
+
+    @Autowired
+    public TaskCoalescer(final CoalescingProperties properties,
+                         final BindingServiceProperties bindingServiceProperties,
+                         final MeterRegistry meterRegistry) {
+        this(properties,
+             bindingServiceProperties.getConsumerProperties(AUTOMATIC_BINDING).getConcurrency(),
+             meterRegistry,
+             Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("task-coalescer").factory()),
+             System::nanoTime);
+    }
+
+    /**
+     * @param listenerConcurrency number of listener threads of the automatic binding
+     */
+    TaskCoalescer(final CoalescingProperties properties,
+                  final int listenerConcurrency,
+                  final MeterRegistry meterRegistry,
+                  final ScheduledExecutorService timer,
+                  final LongSupplier ticker) {
+        if (properties.enabled() && listenerConcurrency < 2) {
+            timer.shutdownNow();
+            throw new CoreValidIntradayAdapterException(("Coalescing requires several listener threads on %s to collapse identical messages, "
+                                                         + "its concurrency is %d").formatted(AUTOMATIC_BINDING, listenerConcurrency));
+        }
+        this.properties = properties;
+        this.timer = timer;
+        this.ticker = ticker;
+        this.pendingPermits = new Semaphore(properties.maximumPending());
+        this.collapsedCounter = Counter.builder("core.valid.intraday.adapter.coalescing.collapsed")
+                .description("Messages superseded by a newer identical message within the quiet window")
+                .register(meterRegistry);
+        this.releasedCounter = Counter.builder("core.valid.intraday.adapter.coalescing.released")
+                .description("Messages handled after their quiet window")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("core.valid.intraday.adapter.coalescing.overflow")
+                .description("Messages handled right away because the maximum number of pending tasks was reached")
+                .register(meterRegistry);
+        Gauge.builder("core.valid.intraday.adapter.coalescing.pending", pendingGroups, Map::size)
+                .description("Tasks currently held in their quiet window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hands the message over to the given handler on the calling thread, either immediately or once its quiet
+     * window is over, and returns once it has been handled. A message superseded by a newer identical message
+     * is not handled itself: the call then returns, or throws, as the handling of the newer message does.
+     */
+    public void submit(final TaskDto taskDto, final Consumer<TaskDto> handler) {
+        if (!properties.enabled() || closed) {
+            handler.accept(taskDto);
+            return;
+        }
+        final CoalescingKey key = new CoalescingKey(taskDto.getId(), getLatestRunId(taskDto.getRunHistory()));
+        final PendingTask pendingTask = new PendingTask(taskDto, handler);
+        final PendingGroup group = pendingGroups.compute(key, (k, currentGroup) -> join(k, currentGroup, pendingTask));
+        if (group == null) {
+            overflowCounter.increment();
+            LOGGER.debug("Too many tasks pending, run request on TS {} handled without coalescing", taskDto.getTimestamp());
+            handler.accept(taskDto);
+            return;
+        }
+        if (closed) {
+            // Shutdown may have started after the check above, make sure the task does not wait for a stopped timer
+            group.release(null);
+        }
+        group.handle(pendingTask);
+    }
+
+    private PendingGroup join(final CoalescingKey key, final PendingGroup currentGroup, final PendingTask pendingTask) {
+        if (currentGroup != null && currentGroup.supersede(pendingTask)) {
+            collapsedCounter.increment();
+            LOGGER.debug("Run request on TS {} superseded by a newer identical message", pendingTask.taskDto.getTimestamp());
+            return currentGroup;
+        }
+        if (!pendingPermits.tryAcquire()) {
+            return null;
+        }
+        return new PendingGroup(key, pendingTask, ticker.getAsLong() + properties.maximumWait().toNanos());
+    }
+
+    private static UUID getLatestRunId(final List<ProcessRunDto> runHistory) {
+        final ProcessRunDto latestRun = CoreValidIntradayRequestMapper.findLatestRun(runHistory);
+        return latestRun != null ? latestRun.getId() : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        closed = true;
+        pendingGroups.values().forEach(group -> group.release(null));
+        timer.shutdownNow();
+    }
+
+    private static <T> T await(final Future<T> future, final TaskDto taskDto) {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CoreValidIntradayAdapterException("Coalesced run request on TS %s failed".formatted(taskDto.getTimestamp()), e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreValidIntradayAdapterException("Interrupted while coalescing run request on TS %s".formatted(taskDto.getTimestamp()), e);
+        }
+    }
+
+    private record CoalescingKey(UUID taskId, UUID runId) {
+    }
+
+    private record PendingTask(TaskDto taskDto, Consumer<TaskDto> handler) {
+    }
+
+    /**
+     * Identical messages held together, the latest one being handled once released.
+     */
+    private final class PendingGroup {
+        private final CoalescingKey key;
+        private final long deadline;
+        private final CompletableFuture<PendingTask> releasedTask = new CompletableFuture<>();
+        private final CompletableFuture<Void> outcome = new CompletableFuture<>();
+        private PendingTask latestTask;
+        private ScheduledFuture<?> releaseTimer;
+
+        private PendingGroup(final CoalescingKey key, final PendingTask pendingTask, final long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+            this.latestTask = pendingTask;
+            scheduleRelease();
+        }
+
+        private synchronized boolean supersede(final PendingTask pendingTask) {
+            if (releasedTask.isDone()) {
+                return false;
+            }
+            cancelRelease();
+            latestTask = pendingTask;
+            scheduleRelease();
+            return true;
+        }
+
+        private void scheduleRelease() {
+            final long delay = Math.max(0, Math.min(properties.quietWindow().toNanos(), deadline - ticker.getAsLong()));
+            final PendingTask scheduledTask = latestTask;
+            try {
+                releaseTimer = timer.schedule(() -> release(scheduledTask), delay, TimeUnit.NANOSECONDS);
+            } catch (final RejectedExecutionException e) {
+                // Shutting down, the group gets released by the shutdown or by its sender
+                releaseTimer = null;
+            }
+        }
+
+        private void cancelRelease() {
+            if (releaseTimer != null) {
+                releaseTimer.cancel(false);
+            }
+        }
+
+        /**
+         * Releases the latest task of the group, provided it is still the expected one when given.
+         */
+        private void release(final PendingTask expectedTask) {
+            synchronized (this) {
+                if (releasedTask.isDone() || expectedTask != null && expectedTask != latestTask) {
+                    return;
+                }
+                cancelRelease();
+                releasedTask.complete(latestTask);
+            }
+            pendingGroups.remove(key, this);
+            pendingPermits.release();
+            releasedCounter.increment();
+        }
+
+        private void handle(final PendingTask pendingTask) {
+            final PendingTask taskToHandle;
+            try {
+                taskToHandle = await(releasedTask, pendingTask.taskDto);
+            } catch (final CoreValidIntradayAdapterException e) {
+                abandon(pendingTask, e);
+                throw e;
+            }
+            if (taskToHandle != pendingTask) {
+                await(outcome, pendingTask.taskDto);
+                return;
+            }
+            try {
+                pendingTask.handler.accept(pendingTask.taskDto);
+            } catch (final RuntimeException | Error e) {
+                outcome.completeExceptionally(e);
+                throw e;
+            }
+            outcome.complete(null);
+        }
+
+        /**
+         * Fails the group when its latest task will not be handled by its interrupted sender.
+         */
+        private void abandon(final PendingTask pendingTask, final CoreValidIntradayAdapterException exception) {
+            synchronized (this) {
+                if (releasedTask.isDone()) {
+                    if (!releasedTask.isCompletedExceptionally() && releasedTask.join() == pendingTask) {
+                        outcome.completeExceptionally(exception);
+                    }
+                    return;
+                }
+                if (latestTask != pendingTask) {
+                    return;
+                }
+                cancelRelease();
+                releasedTask.completeExceptionally(exception);
+            }
+            pendingGroups.remove(key, this);
+            pendingPermits.release();
+        }
+    }
+}
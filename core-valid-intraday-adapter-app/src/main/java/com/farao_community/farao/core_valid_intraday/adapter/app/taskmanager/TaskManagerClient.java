@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.taskmanager;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DeferredRecheckProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.OffsetDateTime;
+
+/**
+ * Gets the current state of tasks from the task manager.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class TaskManagerClient {
+
+    private final DeferredRecheckProperties properties;
+    private final RestTemplate restTemplate;
+
+    public TaskManagerClient(final DeferredRecheckProperties properties, final RestTemplateBuilder restTemplateBuilder) {
+        if (properties.enabled()) {
+            checkTaskManagerTimestampUrl(properties.taskManagerTimestampUrl());
+        }
+        this.properties = properties;
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(properties.requestTimeout())
+                .readTimeout(properties.requestTimeout())
+                .build();
+    }
+
+    public TaskDto getTask(final OffsetDateTime timestamp) {
+        try {
+            final TaskDto taskDto = restTemplate.getForObject(getTaskUri(timestamp), TaskDto.class);
+            if (taskDto == null) {
+                throw new CoreValidIntradayAdapterException("No task returned by task manager for timestamp %s".formatted(timestamp));
+            }
+            return taskDto;
+        } catch (final RestClientException e) {
+            throw new CoreValidIntradayAdapterException("Failed to get task of timestamp %s from task manager".formatted(timestamp), e);
+        }
+    }
+
+    /**
+     * Fails at startup rather than on the first re-check when the URL re-checks rely on is missing or malformed.
+     */
+    private static void checkTaskManagerTimestampUrl(final String taskManagerTimestampUrl) {
+        if (taskManagerTimestampUrl == null || taskManagerTimestampUrl.isBlank()) {
+            throw new CoreValidIntradayAdapterException("Re-check of tasks not ready yet requires a task manager timestamp URL");
+        }
+        try {
+            final URI uri = new URI(taskManagerTimestampUrl);
+            final boolean isHttp = "http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme());
+            if (!isHttp || uri.getHost() == null) {
+                throw new CoreValidIntradayAdapterException("Task manager timestamp URL %s is not an HTTP URL".formatted(taskManagerTimestampUrl));
+            }
+        } catch (final URISyntaxException e) {
+            throw new CoreValidIntradayAdapterException("Task manager timestamp URL %s is malformed".formatted(taskManagerTimestampUrl), e);
+        }
+    }
+
+    /**
+     * @return the URI of the task of the timestamp, the timestamp being encoded so that the plus sign of its offset
+     * is not read as a space
+     */
+    private URI getTaskUri(final OffsetDateTime timestamp) {
+        return UriComponentsBuilder.fromUriString(properties.taskManagerTimestampUrl() + "{timestamp}")
+                .encode()
+                .buildAndExpand(timestamp)
+                .toUri();
+    }
+}
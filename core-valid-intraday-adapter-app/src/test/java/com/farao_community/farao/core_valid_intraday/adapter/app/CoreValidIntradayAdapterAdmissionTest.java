@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Drives the admission control through the listener, with requests dispatched asynchronously.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@SpringBootTest(properties = {
+    "core-valid-intraday-adapter.dispatch.asynchronous=true",
+    "core-valid-intraday-adapter.dispatch.max-in-flight=4",
+    "core-valid-intraday-adapter.admission.enabled=true",
+    "core-valid-intraday-adapter.admission.initial-limit=4"
+})
+class CoreValidIntradayAdapterAdmissionTest {
+
+    @MockitoBean
+    private CoreValidIntradayClient coreValidIntradayClient;
+
+    @MockitoBean
+    private MinioAdapter minioAdapter;
+
+    @Autowired
+    private CoreValidIntradayAdapterListener coreValidIntradayAdapterListener;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static TaskDto createReadyTask() {
+        final OffsetDateTime timestamp = OffsetDateTime.parse("2025-10-02T14:30Z");
+        final List<ProcessFileDto> inputs = Stream.of("CNEC-RAM", "VERTICE", "CGM", "GLSK", "MERGED-CNEC", "MARKET-POINT", "PRA")
+                .map(fileType -> new ProcessFileDto("/" + fileType, fileType, ProcessFileStatus.VALIDATED, fileType.toLowerCase(), null, timestamp))
+                .toList();
+        final List<ProcessRunDto> runHistory = List.of(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), inputs));
+        return new TaskDto(UUID.randomUUID(), timestamp, TaskStatus.READY, new ArrayList<>(inputs), null, List.of(), List.of(), runHistory, List.of());
+    }
+
+    private double getLimit() {
+        return meterRegistry.get("core.valid.intraday.adapter.admission.limit").gauge().value();
+    }
+
+    private double getThrottledCount() {
+        return meterRegistry.counter("core.valid.intraday.adapter.admission.throttled", "launch.type", "manual").count();
+    }
+
+    @Test
+    void limitDropsOnFailedDispatchesThenThrottlesAndRecovers() {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(Mockito.anyString(), Mockito.eq(1)))
+                .thenAnswer(invocation -> "url:" + invocation.getArgument(0));
+        final CountDownLatch slowRunReleased = new CountDownLatch(1);
+        Mockito.doThrow(new IllegalStateException("Runner unavailable"))
+                .doThrow(new IllegalStateException("Runner unavailable"))
+                .doAnswer(invocation -> slowRunReleased.await(5, TimeUnit.SECONDS))
+                .doNothing()
+                .when(coreValidIntradayClient).run(Mockito.any());
+        final Consumer<TaskDto> taskDtoConsumer = coreValidIntradayAdapterListener.consumeTask();
+        Assertions.assertEquals(4.0, getLimit());
+
+        taskDtoConsumer.accept(createReadyTask());
+        taskDtoConsumer.accept(createReadyTask());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> getLimit() == 1.0);
+
+        final double throttledCount = getThrottledCount();
+        taskDtoConsumer.accept(createReadyTask());
+        final CompletableFuture<Void> throttledMessage = CompletableFuture.runAsync(() -> taskDtoConsumer.accept(createReadyTask()));
+        try {
+            await().atMost(5, TimeUnit.SECONDS).until(() -> getThrottledCount() == throttledCount + 1);
+            Assertions.assertFalse(throttledMessage.isDone(), "Listener should wait for the slow dispatch to complete");
+            Mockito.verify(coreValidIntradayClient, Mockito.times(3)).run(Mockito.any());
+        } finally {
+            slowRunReleased.countDown();
+        }
+
+        throttledMessage.orTimeout(5, TimeUnit.SECONDS).join();
+        Mockito.verify(coreValidIntradayClient, Mockito.timeout(5000).times(4)).run(Mockito.any());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> getLimit() == 2.5);
+    }
+}
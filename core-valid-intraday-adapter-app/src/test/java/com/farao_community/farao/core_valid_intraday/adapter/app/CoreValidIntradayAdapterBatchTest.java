@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.retry.TaskRetrier;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayRequest;
+import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Sends batches of run requests through the binding of the manual batch consumer.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@SpringBootTest(properties = {
+    "spring.cloud.function.definition=consumeTaskBatch",
+    "spring.cloud.stream.default-binder=integration",
+    "core-valid-intraday-adapter.retry.dead-letter-destination=" + CoreValidIntradayAdapterBatchTest.DEAD_LETTER_DESTINATION
+})
+@Import(TestChannelBinderConfiguration.class)
+class CoreValidIntradayAdapterBatchTest {
+
+    static final String DEAD_LETTER_DESTINATION = "core-valid-intraday-dead-letter";
+
+    @MockitoBean
+    private CoreValidIntradayClient coreValidIntradayClient;
+
+    @MockitoBean
+    private MinioAdapter minioAdapter;
+
+    @Autowired
+    private InputDestination inputDestination;
+
+    @Autowired
+    private OutputDestination outputDestination;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static TaskDto createReadyTask(final OffsetDateTime timestamp, final boolean withRunHistory) {
+        final List<ProcessFileDto> inputs = Stream.of("CNEC-RAM", "VERTICE", "CGM", "GLSK", "MERGED-CNEC", "MARKET-POINT", "PRA")
+                .map(fileType -> new ProcessFileDto("/" + fileType, fileType, ProcessFileStatus.VALIDATED, fileType.toLowerCase(), null, timestamp))
+                .toList();
+        final List<ProcessRunDto> runHistory = withRunHistory ? List.of(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), inputs)) : List.of();
+        return new TaskDto(UUID.randomUUID(), timestamp, TaskStatus.READY, new ArrayList<>(inputs), null, List.of(), List.of(), runHistory, List.of());
+    }
+
+    @Test
+    void batchWithFailingTaskIsAcknowledgedAndOnlyTheFailingTaskIsDeadLettered() throws Exception {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(Mockito.anyString(), Mockito.eq(1)))
+                .thenAnswer(invocation -> "url:" + invocation.getArgument(0));
+        final TaskDto readyTask = createReadyTask(OffsetDateTime.parse("2025-10-02T14:30Z"), true);
+        final TaskDto taskWithoutRunHistory = createReadyTask(OffsetDateTime.parse("2025-10-02T14:45Z"), false);
+        final byte[] payload = objectMapper.writeValueAsBytes(List.of(readyTask, taskWithoutRunHistory));
+
+        Assertions.assertDoesNotThrow(() -> inputDestination.send(MessageBuilder.withPayload(payload).build(), "consumeTaskBatch-in-0"));
+
+        final ArgumentCaptor<CoreValidIntradayRequest> request = ArgumentCaptor.captor();
+        Mockito.verify(coreValidIntradayClient).run(request.capture());
+        Assertions.assertEquals(readyTask.getId().toString(), request.getValue().getId());
+        final Message<byte[]> deadLetter = outputDestination.receive(1000, DEAD_LETTER_DESTINATION);
+        Assertions.assertNotNull(deadLetter);
+        Assertions.assertEquals(taskWithoutRunHistory.getId(), objectMapper.readValue(deadLetter.getPayload(), TaskDto.class).getId());
+        Assertions.assertEquals(TaskRetrier.PERMANENT_FAILURE, deadLetter.getHeaders().get(TaskRetrier.FAILURE_REASON_HEADER));
+        Assertions.assertNull(outputDestination.receive(100, DEAD_LETTER_DESTINATION));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.scheduling.TaskCoalescer;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Sends identical automatic run requests through the binding of the automatic consumer, each on its own thread
+ * like the listener threads of the broker binder.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@SpringBootTest(properties = {
+    "spring.cloud.function.definition=consumeTask;consumeAutoTask",
+    "spring.cloud.stream.default-binder=integration",
+    "spring.cloud.stream.bindings.consumeAutoTask-in-0.consumer.concurrency=2",
+    "core-valid-intraday-adapter.coalescing.quiet-window=500ms"
+})
+@Import(TestChannelBinderConfiguration.class)
+class CoreValidIntradayAdapterCoalescingTest {
+
+    @MockitoBean
+    private CoreValidIntradayClient coreValidIntradayClient;
+
+    @MockitoBean
+    private MinioAdapter minioAdapter;
+
+    @Autowired
+    private InputDestination inputDestination;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static TaskDto createReadyTask() {
+        final OffsetDateTime timestamp = OffsetDateTime.parse("2025-10-02T14:30Z");
+        final List<ProcessFileDto> inputs = Stream.of("CNEC-RAM", "VERTICE", "CGM", "GLSK", "MERGED-CNEC", "MARKET-POINT", "PRA")
+                .map(fileType -> new ProcessFileDto("/" + fileType, fileType, ProcessFileStatus.VALIDATED, fileType.toLowerCase(), null, timestamp))
+                .toList();
+        final List<ProcessRunDto> runHistory = List.of(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), inputs));
+        return new TaskDto(UUID.randomUUID(), timestamp, TaskStatus.READY, new ArrayList<>(inputs), null, List.of(), List.of(), runHistory, List.of());
+    }
+
+    @Test
+    void identicalMessagesReceivedOnSeveralListenerThreadsAreDispatchedOnce() throws Exception {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(Mockito.anyString(), Mockito.eq(1)))
+                .thenAnswer(invocation -> "url:" + invocation.getArgument(0));
+        final byte[] payload = objectMapper.writeValueAsBytes(createReadyTask());
+
+        final CompletableFuture<Void> firstListener = CompletableFuture.runAsync(() -> send(payload));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> meterRegistry.get("core.valid.intraday.adapter.coalescing.pending").gauge().value() == 1);
+        final CompletableFuture<Void> secondListener = CompletableFuture.runAsync(() -> send(payload));
+        CompletableFuture.allOf(firstListener, secondListener).get(5, TimeUnit.SECONDS);
+
+        Mockito.verify(coreValidIntradayClient, Mockito.times(1)).run(Mockito.any());
+        Assertions.assertEquals(1.0, meterRegistry.get("core.valid.intraday.adapter.coalescing.collapsed").counter().count());
+    }
+
+    private void send(final byte[] payload) {
+        inputDestination.send(MessageBuilder.withPayload(payload).build(), TaskCoalescer.AUTOMATIC_BINDING);
+    }
+}
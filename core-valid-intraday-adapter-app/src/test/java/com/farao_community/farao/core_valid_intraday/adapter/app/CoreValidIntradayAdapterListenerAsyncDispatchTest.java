@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.retry.TaskRetrier;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@SpringBootTest(properties = {
+    "core-valid-intraday-adapter.dispatch.asynchronous=true",
+    "core-valid-intraday-adapter.retry.enabled=true",
+    "core-valid-intraday-adapter.retry.max-attempts=2",
+    "core-valid-intraday-adapter.retry.initial-backoff=1ms",
+    "core-valid-intraday-adapter.retry.dead-letter-destination=" + CoreValidIntradayAdapterListenerAsyncDispatchTest.DEAD_LETTER_DESTINATION
+})
+class CoreValidIntradayAdapterListenerAsyncDispatchTest {
+
+    static final String DEAD_LETTER_DESTINATION = "core-valid-intraday-dead-letter";
+
+    @MockitoBean
+    private CoreValidIntradayClient coreValidIntradayClient;
+
+    @MockitoBean
+    private MinioAdapter minioAdapter;
+
+    @MockitoBean
+    private StreamBridge streamBridge;
+
+    @Autowired
+    private CoreValidIntradayAdapterListener coreValidIntradayAdapterListener;
+
+    private final Queue<Thread> runnerThreads = new ConcurrentLinkedQueue<>();
+
+    private static TaskDto createReadyTask() {
+        final OffsetDateTime timestamp = OffsetDateTime.parse("2025-10-02T14:30Z");
+        final List<ProcessFileDto> inputs = Stream.of("CNEC-RAM", "VERTICE", "CGM", "GLSK", "MERGED-CNEC", "MARKET-POINT", "PRA")
+                .map(fileType -> new ProcessFileDto("/" + fileType, fileType, ProcessFileStatus.VALIDATED, fileType.toLowerCase(), null, timestamp))
+                .toList();
+        final List<ProcessRunDto> runHistory = List.of(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), inputs));
+        return new TaskDto(UUID.randomUUID(), timestamp, TaskStatus.READY, new ArrayList<>(inputs), null, List.of(), List.of(), runHistory, List.of());
+    }
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(Mockito.anyString(), Mockito.eq(1)))
+                .thenAnswer(invocation -> "url:" + invocation.getArgument(0));
+    }
+
+    @Test
+    void nextMessageIsHandledWhileTheFirstDispatchIsStillRunning() throws InterruptedException {
+        final CountDownLatch firstRunReleased = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            runnerThreads.add(Thread.currentThread());
+            firstRunReleased.await();
+            return null;
+        }).doAnswer(invocation -> runnerThreads.add(Thread.currentThread())).when(coreValidIntradayClient).run(Mockito.any());
+        final Consumer<TaskDto> taskDtoConsumer = coreValidIntradayAdapterListener.consumeTask();
+
+        try {
+            taskDtoConsumer.accept(createReadyTask());
+            taskDtoConsumer.accept(createReadyTask());
+
+            Mockito.verify(coreValidIntradayClient, Mockito.timeout(5000).times(2)).run(Mockito.any());
+            Assertions.assertEquals(1, firstRunReleased.getCount());
+        } finally {
+            firstRunReleased.countDown();
+        }
+        Assertions.assertFalse(runnerThreads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    void failingAsynchronousDispatchIsRetried() {
+        Mockito.doAnswer(invocation -> {
+            runnerThreads.add(Thread.currentThread());
+            throw new IllegalStateException("Runner unavailable");
+        }).doAnswer(invocation -> runnerThreads.add(Thread.currentThread())).when(coreValidIntradayClient).run(Mockito.any());
+
+        coreValidIntradayAdapterListener.consumeTask().accept(createReadyTask());
+
+        Mockito.verify(coreValidIntradayClient, Mockito.timeout(5000).times(2)).run(Mockito.any());
+        Assertions.assertFalse(runnerThreads.contains(Thread.currentThread()));
+        Mockito.verify(streamBridge, Mockito.never()).send(Mockito.anyString(), Mockito.any());
+    }
+
+    @Test
+    void failureOfAsynchronousDispatchIsDeadLettered() {
+        Mockito.when(streamBridge.send(Mockito.eq(DEAD_LETTER_DESTINATION), Mockito.any())).thenReturn(true);
+        Mockito.doAnswer(invocation -> {
+            runnerThreads.add(Thread.currentThread());
+            throw new IllegalStateException("Runner unavailable");
+        }).when(coreValidIntradayClient).run(Mockito.any());
+        final TaskDto taskDto = createReadyTask();
+
+        Assertions.assertDoesNotThrow(() -> coreValidIntradayAdapterListener.consumeAutoTask().accept(taskDto));
+
+        final ArgumentCaptor<Message<?>> deadLetter = ArgumentCaptor.captor();
+        Mockito.verify(streamBridge, Mockito.timeout(5000)).send(Mockito.eq(DEAD_LETTER_DESTINATION), deadLetter.capture());
+        Assertions.assertSame(taskDto, deadLetter.getValue().getPayload());
+        Assertions.assertEquals("Error during handling of automatic run request on TS 2025-10-02T14:30Z",
+                                deadLetter.getValue().getHeaders().get(TaskRetrier.EXCEPTION_MESSAGE_HEADER));
+        Assertions.assertEquals(TaskRetrier.EXHAUSTED, deadLetter.getValue().getHeaders().get(TaskRetrier.FAILURE_REASON_HEADER));
+        Assertions.assertEquals(2, deadLetter.getValue().getHeaders().get(TaskRetrier.ATTEMPTS_HEADER));
+        Mockito.verify(coreValidIntradayClient, Mockito.times(2)).run(Mockito.any());
+        Assertions.assertFalse(runnerThreads.contains(Thread.currentThread()));
+    }
+}
@@ -15,6 +15,7 @@ import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayRequest;
 import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,6 +52,9 @@ class CoreValidIntradayAdapterListenerTest {
 
     @Autowired
     private CoreValidIntradayAdapterListener coreValidIntradayAdapterListener;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
     private String cnecRamFileType;
     private String verticeFileType;
     private String mergedCnecFileType;
@@ -168,11 +172,13 @@ class CoreValidIntradayAdapterListenerTest {
     @Test
     void testGetManualCoreValidRequestThrowsException() {
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.now(), TaskStatus.READY, List.of(), null, List.of(), List.of(), List.of(), List.of());
+        final double missingRunHistories = meterRegistry.counter("core.valid.intraday.adapter.tasks.run.history.missing", "launch.type", "manual").count();
 
         Assertions.assertThrows(
                 CoreValidIntradayAdapterException.class,
                 () -> coreValidIntradayAdapterListener.getManualCoreValidIntradayRequest(taskDto),
                 "Failed to handle manual run request on timestamp because it has no run history");
+        Assertions.assertEquals(missingRunHistories + 1, meterRegistry.counter("core.valid.intraday.adapter.tasks.run.history.missing", "launch.type", "manual").count());
     }
 
     @Test
@@ -196,8 +202,20 @@ class CoreValidIntradayAdapterListenerTest {
         processFiles.add(new ProcessFileDto(praFilePath, praFileType, ProcessFileStatus.VALIDATED, praFileName, "docId7", timestamp));
         final List<ProcessEventDto> processEvents = new ArrayList<>();
         final TaskDto taskDto = new TaskDto(id, timestamp, TaskStatus.READY, processFiles, null, Collections.emptyList(), processEvents, Collections.emptyList(), Collections.emptyList());
+        final double unknownFileTypes = meterRegistry.counter("core.valid.intraday.adapter.files.unknown.type", "file.type", "unknown").count();
         Assertions.assertThrows(IllegalStateException.class, () -> coreValidIntradayAdapterListener.getManualCoreValidIntradayRequest(taskDto));
+        Assertions.assertEquals(unknownFileTypes + 1, meterRegistry.counter("core.valid.intraday.adapter.files.unknown.type", "file.type", "unknown").count());
+        Assertions.assertNull(meterRegistry.find("core.valid.intraday.adapter.files.unknown.type").tag("file.type", "REF-PROG").counter());
+    }
+
+    @Test
+    void testGetCoreValidRequestWithDuplicateInputSignsNothing() {
+        final TaskDto taskDto = createTaskDtoWithStatus(TaskStatus.READY);
+        taskDto.getInputs().add(new ProcessFileDto("/other/CGM", cgmFileType, ProcessFileStatus.VALIDATED, cgmFileName, "docId8", taskDto.getTimestamp()));
+        Mockito.clearInvocations(minioAdapter);
 
+        Assertions.assertThrows(CoreValidIntradayAdapterException.class, () -> coreValidIntradayAdapterListener.getManualCoreValidIntradayRequest(taskDto));
+        Mockito.verifyNoInteractions(minioAdapter);
     }
 
     @Test
@@ -222,8 +240,10 @@ class CoreValidIntradayAdapterListenerTest {
     @Test
     void consumeCreatedTask() {
         final TaskDto taskDto = createTaskDtoWithStatus(TaskStatus.CREATED);
+        final double notReadyTasks = meterRegistry.counter("core.valid.intraday.adapter.tasks.not.ready", "launch.type", "manual").count();
         coreValidIntradayAdapterListener.consumeTask().accept(taskDto);
         Mockito.verify(coreValidIntradayClient, Mockito.never()).run(argumentCaptor.capture());
+        Assertions.assertEquals(notReadyTasks + 1, meterRegistry.counter("core.valid.intraday.adapter.tasks.not.ready", "launch.type", "manual").count());
     }
 
     @Test
@@ -264,4 +284,41 @@ class CoreValidIntradayAdapterListenerTest {
                 () -> taskDtoConsumer.accept(taskDto),
                 "Error during handling manual run request on TS 2025-10-02T14:30Z");
     }
+
+    @Test
+    void consumeAutoTaskBatch() {
+        final List<TaskDto> taskDtos = List.of(createTaskDtoWithStatus(TaskStatus.READY),
+                                               createTaskDtoWithStatus(TaskStatus.CREATED),
+                                               createTaskDtoWithStatus(TaskStatus.SUCCESS));
+        coreValidIntradayAdapterListener.consumeAutoTaskBatch().accept(taskDtos);
+        Mockito.verify(coreValidIntradayClient, Mockito.times(2)).run(argumentCaptor.capture());
+        Assertions.assertEquals(List.of(taskDtos.get(0).getId().toString(), taskDtos.get(2).getId().toString()),
+                                argumentCaptor.getAllValues().stream().map(CoreValidIntradayRequest::getId).toList());
+        Assertions.assertTrue(argumentCaptor.getAllValues().stream().allMatch(CoreValidIntradayRequest::getLaunchedAutomatically));
+    }
+
+    @Test
+    void consumeTaskBatchIsAcknowledgedWhenSomeTasksFail() {
+        final TaskDto readyTask = createTaskDtoWithStatus(TaskStatus.READY);
+        final TaskDto taskWithoutRunHistory = new TaskDto(UUID.randomUUID(), readyTask.getTimestamp(), TaskStatus.READY, readyTask.getInputs(), null,
+                                                          List.of(), List.of(), List.of(), List.of());
+        final double missingRunHistories = meterRegistry.counter("core.valid.intraday.adapter.tasks.run.history.missing", "launch.type", "manual").count();
+
+        coreValidIntradayAdapterListener.consumeTaskBatch().accept(List.of(taskWithoutRunHistory, readyTask));
+
+        Mockito.verify(coreValidIntradayClient).run(argumentCaptor.capture());
+        Assertions.assertEquals(readyTask.getId().toString(), argumentCaptor.getValue().getId());
+        Assertions.assertFalse(argumentCaptor.getValue().getLaunchedAutomatically());
+        Assertions.assertEquals(missingRunHistories + 1, meterRegistry.counter("core.valid.intraday.adapter.tasks.run.history.missing", "launch.type", "manual").count());
+    }
+
+    @Test
+    void consumeTaskBatchIsAcknowledgedWhenAllTasksFail() {
+        final List<TaskDto> taskDtos = List.of(createTaskDtoWithStatus(TaskStatus.READY), createTaskDtoWithStatus(TaskStatus.READY));
+        Mockito.doThrow(RuntimeException.class).when(coreValidIntradayClient).run(Mockito.any());
+        final Consumer<List<TaskDto>> taskDtosConsumer = coreValidIntradayAdapterListener.consumeTaskBatch();
+
+        Assertions.assertDoesNotThrow(() -> taskDtosConsumer.accept(taskDtos));
+        Mockito.verify(coreValidIntradayClient, Mockito.times(2)).run(Mockito.any());
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.retry.TaskRetrier;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sends a run request failing for good through the binding of the manual consumer, with the payload projection
+ * enabled, to check what the dead-letter destination receives.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@SpringBootTest(properties = {
+    "spring.cloud.function.definition=consumeTask",
+    "spring.cloud.stream.default-binder=integration",
+    "core-valid-intraday-adapter.payload-projection.enabled=true",
+    "core-valid-intraday-adapter.retry.enabled=true",
+    "core-valid-intraday-adapter.retry.dead-letter-destination=" + CoreValidIntradayAdapterPayloadProjectionTest.DEAD_LETTER_DESTINATION
+})
+@Import(TestChannelBinderConfiguration.class)
+class CoreValidIntradayAdapterPayloadProjectionTest {
+
+    static final String DEAD_LETTER_DESTINATION = "core-valid-intraday-dead-letter";
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2025-10-02T14:30Z");
+
+    @MockitoBean
+    private CoreValidIntradayClient coreValidIntradayClient;
+
+    @MockitoBean
+    private MinioAdapter minioAdapter;
+
+    @Autowired
+    private InputDestination inputDestination;
+
+    @Autowired
+    private OutputDestination outputDestination;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static ProcessFileDto processFile(final String fileType) {
+        return new ProcessFileDto("/" + fileType, fileType, ProcessFileStatus.VALIDATED, fileType.toLowerCase(), null, TIMESTAMP);
+    }
+
+    @Test
+    void deadLetteredTaskOnlyCarriesTheProjection() throws Exception {
+        final List<ProcessFileDto> inputs = List.of(processFile("CGM"), processFile("UNKNOWN-TYPE"));
+        final ProcessRunDto oldRun = new ProcessRunDto(UUID.randomUUID(), TIMESTAMP.plusHours(1), inputs);
+        final ProcessRunDto latestRun = new ProcessRunDto(UUID.randomUUID(), TIMESTAMP.plusHours(2), inputs);
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), TIMESTAMP, TaskStatus.READY, inputs, List.of(processFile("CGM")),
+                                            List.of(processFile("OUTPUT")), List.of(), List.of(oldRun, latestRun), List.of());
+
+        inputDestination.send(MessageBuilder.withPayload(objectMapper.writeValueAsBytes(taskDto)).build(), "consumeTask-in-0");
+
+        final Message<byte[]> deadLetter = outputDestination.receive(1000, DEAD_LETTER_DESTINATION);
+        Assertions.assertNotNull(deadLetter);
+        Assertions.assertEquals(TaskRetrier.PERMANENT_FAILURE, deadLetter.getHeaders().get(TaskRetrier.FAILURE_REASON_HEADER));
+        final TaskDto deadLetteredTask = objectMapper.readValue(deadLetter.getPayload(), TaskDto.class);
+        Assertions.assertEquals(taskDto.getId(), deadLetteredTask.getId());
+        Assertions.assertEquals(2, deadLetteredTask.getInputs().size());
+        Assertions.assertEquals(1, deadLetteredTask.getRunHistory().size());
+        Assertions.assertEquals(latestRun.getId(), deadLetteredTask.getRunHistory().getFirst().getId());
+        Assertions.assertTrue(deadLetteredTask.getRunHistory().getFirst().getInputs().isEmpty());
+        Assertions.assertTrue(deadLetteredTask.getOutputs().isEmpty());
+        Assertions.assertTrue(deadLetteredTask.getAvailableInputs().isEmpty());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the time the packaged application takes to be ready to consume its first message, that is until its
+ * context is refreshed and its bindings are started, in a fresh JVM each time. The default launch of the jar is
+ * compared with the fast-startup one of {@code Dockerfile.fast-startup}: extracted jar, Spring AOT initialization
+ * code and class-data-sharing archive recorded by a training run.
+ * Run by the {@code fast-startup} profile once the application is packaged, it writes its measures to
+ * {@code target/startup-test/startup-time.csv}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class CoreValidIntradayAdapterStartupIT {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoreValidIntradayAdapterStartupIT.class);
+    private static final Pattern STARTED = Pattern.compile("Started CoreValidIntradayAdapterApplication in [\\d.]+ seconds");
+    private static final List<String> APPLICATION_ARGUMENTS = List.of("--server.port=0",
+                                                                      "--minio-adapter.bucket=startup-test",
+                                                                      "--minio-adapter.base-path=startup-test",
+                                                                      "--minio-adapter.access-key=startup-test",
+                                                                      "--minio-adapter.secret-key=startup-test",
+                                                                      "--minio-adapter.url=http://localhost:9000");
+    private static final long STARTUP_TIMEOUT_SECONDS = 120;
+
+    private final Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+
+    @Test
+    void measureStartupTimeOfDefaultAndFastStartupLaunches() throws Exception {
+        final Path jar = Path.of(System.getProperty("startup-test.jar"));
+        final Path directory = Files.createDirectories(Path.of(System.getProperty("startup-test.directory", "target/startup-test")));
+        final int runs = Integer.getInteger("startup-test.runs", 3);
+        final Path extractedJar = extract(jar, directory.resolve("extracted"));
+        final Path archive = recordClassDataSharingArchive(extractedJar, directory.resolve("app.jsa"));
+
+        final List<Double> defaultStartups = measureStartups(List.of("-jar", jar.toString()), runs);
+        final List<Double> fastStartups = measureStartups(List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true", "-jar", extractedJar.toString()), runs);
+
+        final List<String> report = List.of("launch,runs,min.s,median.s,max.s",
+                                            toCsvLine("default", defaultStartups),
+                                            toCsvLine("fast-startup", fastStartups));
+        Files.write(directory.resolve("startup-time.csv"), report);
+        LOGGER.info("Startup time report:\n{}", String.join("\n", report));
+        Assertions.assertEquals(runs, defaultStartups.size());
+        Assertions.assertEquals(runs, fastStartups.size());
+    }
+
+    private Path extract(final Path jar, final Path destination) throws Exception {
+        run(List.of(java.toString(), "-Djarmode=tools", "-jar", jar.toString(), "extract", "--force", "--destination", destination.toString()));
+        return destination.resolve(jar.getFileName());
+    }
+
+    /**
+     * Records the classes loaded until the context is refreshed, as done at the build of the fast-startup image.
+     */
+    private Path recordClassDataSharingArchive(final Path extractedJar, final Path archive) throws Exception {
+        final List<String> command = new ArrayList<>(List.of(java.toString(), "-XX:ArchiveClassesAtExit=" + archive,
+                                                             "-Dspring.context.exit=onRefresh", "-Dspring.aot.enabled=true",
+                                                             "-jar", extractedJar.toString()));
+        command.addAll(APPLICATION_ARGUMENTS);
+        run(command);
+        Assertions.assertTrue(Files.exists(archive), "Class-data-sharing archive was not recorded");
+        return archive;
+    }
+
+    private List<Double> measureStartups(final List<String> launchArguments, final int runs) throws Exception {
+        final List<Double> startups = new ArrayList<>(runs);
+        for (int run = 0; run < runs; run++) {
+            startups.add(measureStartup(launchArguments));
+        }
+        return startups;
+    }
+
+    /**
+     * @return seconds from the launch of the JVM to the application being started
+     */
+    private double measureStartup(final List<String> launchArguments) throws Exception {
+        final List<String> command = new ArrayList<>();
+        command.add(java.toString());
+        command.addAll(launchArguments);
+        command.addAll(APPLICATION_ARGUMENTS);
+        final long launchNanos = System.nanoTime();
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try {
+            final CompletableFuture<Long> startedNanos = new CompletableFuture<>();
+            CompletableFuture.runAsync(() -> readOutput(process, startedNanos));
+            return (startedNanos.get(STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS) - launchNanos) / 1e9;
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Reads the output of the application up to its end, so that it never blocks on a full pipe, completing the
+     * given future once the application is started.
+     */
+    private static void readOutput(final Process process, final CompletableFuture<Long> startedNanos) {
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (!startedNanos.isDone() && STARTED.matcher(line).find()) {
+                    startedNanos.complete(System.nanoTime());
+                }
+            }
+            startedNanos.completeExceptionally(new IllegalStateException("Application exited before being started"));
+        } catch (final IOException e) {
+            startedNanos.completeExceptionally(e);
+        }
+    }
+
+    private static void run(final List<String> command) throws Exception {
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        final CompletableFuture<List<String>> output = CompletableFuture.supplyAsync(() -> readAll(process));
+        Assertions.assertTrue(process.waitFor(STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS), "Command did not complete: " + command);
+        Assertions.assertEquals(0, process.exitValue(), () -> "Command %s failed:%n%s".formatted(command, String.join("\n", output.join())));
+    }
+
+    private static List<String> readAll(final Process process) {
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            return output.lines().toList();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to read the output of the command", e);
+        }
+    }
+
+    private static String toCsvLine(final String launch, final List<Double> startups) {
+        final List<Double> sorted = startups.stream().sorted().toList();
+        return String.format(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f", launch, sorted.size(),
+                             sorted.get(0), sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.dispatch;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.AdmissionProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DispatchProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class AdmissionControllerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoreValidIntradayAdapterMetrics metrics = new CoreValidIntradayAdapterMetrics(meterRegistry);
+
+    private AdmissionController createController(final boolean enabled, final int initialLimit) {
+        return new AdmissionController(new AdmissionProperties(enabled, initialLimit, 1, 4, Duration.ofSeconds(2), 1.0, 0.5),
+                                       new DispatchProperties(true, 16),
+                                       metrics,
+                                       meterRegistry);
+    }
+
+    @Test
+    void requestsBeyondLimitWaitForDispatchToComplete() throws InterruptedException {
+        final AdmissionController admissionController = createController(true, 1);
+        admissionController.admit("automatic");
+
+        final CompletableFuture<Void> throttled = CompletableFuture.runAsync(() -> admissionController.admit("automatic"));
+        await().atMost(2, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.find("core.valid.intraday.adapter.admission.throttled").counter() != null);
+        Thread.sleep(100);
+        Assertions.assertFalse(throttled.isDone(), "Second request should wait for the first dispatch to complete");
+
+        admissionController.release(FAST, false);
+        await().atMost(2, TimeUnit.SECONDS).until(throttled::isDone);
+        Assertions.assertEquals(1, admissionController.getInFlightCount());
+        Assertions.assertEquals(1.0, meterRegistry.get("core.valid.intraday.adapter.admission.throttled").tag("launch.type", "automatic").counter().count());
+    }
+
+    @Test
+    void limitGrowsAdditivelyWhileRunnerKeepsUp() {
+        final AdmissionController admissionController = createController(true, 2);
+
+        for (int i = 0; i < 2; i++) {
+            admissionController.admit("manual");
+            admissionController.release(FAST, false);
+        }
+        Assertions.assertTrue(admissionController.getLimit() > 2.8 && admissionController.getLimit() < 3.0);
+
+        for (int i = 0; i < 20; i++) {
+            admissionController.admit("manual");
+            admissionController.release(FAST, false);
+        }
+        Assertions.assertEquals(4.0, admissionController.getLimit());
+        Assertions.assertEquals(4.0, meterRegistry.get("core.valid.intraday.adapter.admission.limit").gauge().value());
+    }
+
+    @Test
+    void limitIsCutOnSlowOrFailedDispatch() {
+        final AdmissionController admissionController = createController(true, 4);
+
+        admissionController.admit("automatic");
+        admissionController.release(SLOW, false);
+        Assertions.assertEquals(2.0, admissionController.getLimit());
+
+        admissionController.admit("automatic");
+        admissionController.release(FAST, true);
+        Assertions.assertEquals(1.0, admissionController.getLimit());
+
+        admissionController.admit("automatic");
+        admissionController.release(FAST, true);
+        Assertions.assertEquals(1.0, admissionController.getLimit(), "Limit should not go below its minimum");
+    }
+
+    @Test
+    void limitIsBoundedByTheRequestsInFlightOfAsynchronousDispatch() {
+        final AdmissionController admissionController = new AdmissionController(new AdmissionProperties(true, 8, 1, 64, Duration.ofSeconds(2), 1.0, 0.5),
+                                                                                new DispatchProperties(true, 2),
+                                                                                metrics,
+                                                                                meterRegistry);
+        Assertions.assertEquals(2.0, admissionController.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            admissionController.admit("manual");
+            admissionController.release(FAST, false);
+        }
+        Assertions.assertEquals(2.0, admissionController.getLimit());
+
+        admissionController.admit("manual");
+        admissionController.release(SLOW, false);
+        Assertions.assertEquals(1.0, admissionController.getLimit());
+    }
+
+    @Test
+    void abandonedAdmissionLeavesLimitUnchanged() {
+        final AdmissionController admissionController = createController(true, 2);
+
+        admissionController.admit("manual");
+        admissionController.abandon();
+
+        Assertions.assertEquals(2.0, admissionController.getLimit());
+        Assertions.assertEquals(0, admissionController.getInFlightCount());
+    }
+
+    @Test
+    void nothingIsLimitedWhenDisabled() {
+        final AdmissionController admissionController = createController(false, 1);
+
+        admissionController.admit("manual");
+        admissionController.admit("manual");
+        admissionController.release(SLOW, true);
+
+        Assertions.assertEquals(0, admissionController.getInFlightCount());
+        Assertions.assertEquals(1.0, admissionController.getLimit());
+    }
+}
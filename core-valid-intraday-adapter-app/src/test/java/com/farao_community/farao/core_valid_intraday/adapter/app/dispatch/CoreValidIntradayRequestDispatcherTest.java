@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.dispatch;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.AdmissionProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DispatchProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayRequest;
+import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CoreValidIntradayRequestDispatcherTest {
+
+    private final CoreValidIntradayClient coreValidIntradayClient = Mockito.mock(CoreValidIntradayClient.class);
+    private final CoreValidIntradayRequest request = Mockito.mock(CoreValidIntradayRequest.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoreValidIntradayAdapterMetrics metrics = new CoreValidIntradayAdapterMetrics(meterRegistry);
+    private CoreValidIntradayRequestDispatcher requestDispatcher;
+
+    @AfterEach
+    void tearDown() {
+        requestDispatcher.shutdown();
+    }
+
+    private AdmissionController disabledAdmission() {
+        return new AdmissionController(new AdmissionProperties(false, 8, 1, 64, Duration.ofSeconds(2), 1.0, 0.5), new DispatchProperties(false, 1), metrics, meterRegistry);
+    }
+
+    @Test
+    void synchronousDispatchThrowsFailuresToCaller() {
+        requestDispatcher = new CoreValidIntradayRequestDispatcher(coreValidIntradayClient, new DispatchProperties(false, 1), disabledAdmission(), metrics, meterRegistry);
+        Mockito.doThrow(IllegalStateException.class).when(coreValidIntradayClient).run(request);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> requestDispatcher.dispatch(request));
+    }
+
+    @Test
+    void asynchronousDispatchReleasesCallerAndBoundsRequestsInFlight() throws InterruptedException {
+        requestDispatcher = new CoreValidIntradayRequestDispatcher(coreValidIntradayClient, new DispatchProperties(true, 2), disabledAdmission(), metrics, meterRegistry);
+        final CountDownLatch runnerReleased = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> runnerReleased.await(5, TimeUnit.SECONDS)).when(coreValidIntradayClient).run(request);
+
+        final CompletableFuture<Void> first = requestDispatcher.dispatch(request);
+        final CompletableFuture<Void> second = requestDispatcher.dispatch(request);
+        final CompletableFuture<CompletableFuture<Void>> third = CompletableFuture.supplyAsync(() -> requestDispatcher.dispatch(request));
+
+        Assertions.assertFalse(first.isDone());
+        Assertions.assertEquals(2, requestDispatcher.getInFlightCount());
+        Thread.sleep(100);
+        Assertions.assertFalse(third.isDone(), "Third dispatch should wait for a free slot");
+
+        runnerReleased.countDown();
+        await().atMost(2, TimeUnit.SECONDS).until(() -> third.isDone() && third.join().isDone());
+        Assertions.assertTrue(first.isDone() && second.isDone());
+        Mockito.verify(coreValidIntradayClient, Mockito.times(3)).run(request);
+    }
+
+    @Test
+    void asynchronousDispatchFailureCompletesFutureExceptionally() {
+        requestDispatcher = new CoreValidIntradayRequestDispatcher(coreValidIntradayClient, new DispatchProperties(true, 2), disabledAdmission(), metrics, meterRegistry);
+        Mockito.doThrow(IllegalStateException.class).when(coreValidIntradayClient).run(request);
+
+        final CompletableFuture<Void> dispatch = requestDispatcher.dispatch(request);
+
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, dispatch::join);
+        Assertions.assertInstanceOf(CoreValidIntradayAdapterException.class, exception.getCause());
+        await().atMost(2, TimeUnit.SECONDS).until(() -> requestDispatcher.getInFlightCount() == 0);
+    }
+
+    @Test
+    void failedDispatchReleasesItsAdmissionAndCutsLimit() {
+        final AdmissionController admissionController = new AdmissionController(new AdmissionProperties(true, 4, 1, 64, Duration.ofSeconds(2), 1.0, 0.5),
+                                                                                new DispatchProperties(false, 1),
+                                                                                metrics,
+                                                                                meterRegistry);
+        requestDispatcher = new CoreValidIntradayRequestDispatcher(coreValidIntradayClient, new DispatchProperties(false, 1), admissionController, metrics, meterRegistry);
+        Mockito.doThrow(IllegalStateException.class).when(coreValidIntradayClient).run(request);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> requestDispatcher.dispatch(request));
+
+        Assertions.assertEquals(0, admissionController.getInFlightCount());
+        Assertions.assertEquals(2.0, admissionController.getLimit());
+    }
+}
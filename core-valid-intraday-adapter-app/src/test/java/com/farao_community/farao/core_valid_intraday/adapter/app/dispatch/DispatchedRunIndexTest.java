@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.dispatch;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.RunIndexProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class DispatchedRunIndexTest {
+
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2025-10-02T14:30Z");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoreValidIntradayAdapterMetrics metrics = new CoreValidIntradayAdapterMetrics(meterRegistry);
+    private DispatchedRunIndex dispatchedRunIndex;
+
+    @AfterEach
+    void tearDown() {
+        dispatchedRunIndex.shutdown();
+    }
+
+    private DispatchedRunIndex createIndex(final boolean enabled, final int maxEntries) {
+        return new DispatchedRunIndex(new RunIndexProperties(enabled, maxEntries, ZoneId.of("Europe/Paris"), 1, Duration.ofHours(1)), metrics);
+    }
+
+    private static TaskDto createTaskDto(final UUID taskId, final OffsetDateTime timestamp, final ProcessRunDto... runHistory) {
+        return new TaskDto(taskId, timestamp, TaskStatus.READY, List.of(), null, List.of(), List.of(), List.of(runHistory), List.of());
+    }
+
+    private static ProcessRunDto createRun(final OffsetDateTime executionDate) {
+        return new ProcessRunDto(UUID.randomUUID(), executionDate, List.of());
+    }
+
+    @Test
+    void runOlderThanDispatchedOneIsStale() {
+        dispatchedRunIndex = createIndex(true, 10);
+        final UUID taskId = UUID.randomUUID();
+        final ProcessRunDto olderRun = createRun(TIMESTAMP);
+        final ProcessRunDto newerRun = createRun(TIMESTAMP.plusMinutes(10));
+
+        Assertions.assertNotNull(dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, olderRun, newerRun), true));
+        Assertions.assertNull(dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, olderRun), true));
+
+        Assertions.assertEquals(newerRun.getId(), dispatchedRunIndex.getDispatchedRun(taskId).runId());
+        Assertions.assertEquals(1.0, meterRegistry.get("core.valid.intraday.adapter.runs.stale").tag("launch.type", "automatic").counter().count());
+    }
+
+    @Test
+    void runIsNotStaleOnceTheReservationOfANewerRunIsCancelled() {
+        dispatchedRunIndex = createIndex(true, 10);
+        final UUID taskId = UUID.randomUUID();
+        final ProcessRunDto olderRun = createRun(TIMESTAMP);
+        final ProcessRunDto newerRun = createRun(TIMESTAMP.plusMinutes(10));
+
+        // The run request of the newer run is reserved but its dispatch fails
+        final DispatchedRunIndex.Reservation reservation = dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, olderRun, newerRun), true);
+        dispatchedRunIndex.cancel(reservation);
+
+        Assertions.assertNull(dispatchedRunIndex.getDispatchedRun(taskId));
+        Assertions.assertNotNull(dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, olderRun), true));
+        Assertions.assertEquals(olderRun.getId(), dispatchedRunIndex.getDispatchedRun(taskId).runId());
+    }
+
+    @Test
+    void cancelledReservationRestoresThePreviousRunUnlessSuperseded() {
+        dispatchedRunIndex = createIndex(true, 10);
+        final UUID taskId = UUID.randomUUID();
+        final ProcessRunDto firstRun = createRun(TIMESTAMP);
+        final ProcessRunDto secondRun = createRun(TIMESTAMP.plusMinutes(10));
+        final ProcessRunDto thirdRun = createRun(TIMESTAMP.plusMinutes(20));
+        dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, firstRun), true);
+
+        final DispatchedRunIndex.Reservation secondReservation = dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, firstRun, secondRun), true);
+        dispatchedRunIndex.cancel(secondReservation);
+        Assertions.assertEquals(firstRun.getId(), dispatchedRunIndex.getDispatchedRun(taskId).runId());
+
+        final DispatchedRunIndex.Reservation supersededReservation = dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, firstRun, secondRun), true);
+        dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, firstRun, secondRun, thirdRun), true);
+        dispatchedRunIndex.cancel(supersededReservation);
+        Assertions.assertEquals(thirdRun.getId(), dispatchedRunIndex.getDispatchedRun(taskId).runId());
+    }
+
+    @Test
+    void concurrentRunRequestsCannotBothPassTheCheck() {
+        dispatchedRunIndex = createIndex(true, 10);
+        final UUID taskId = UUID.randomUUID();
+        final ProcessRunDto olderRun = createRun(TIMESTAMP);
+        final ProcessRunDto newerRun = createRun(TIMESTAMP.plusMinutes(10));
+
+        // The newer run is reserved while the older one is checked, before either is dispatched
+        Assertions.assertNotNull(dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, olderRun, newerRun), false));
+        Assertions.assertNull(dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, olderRun), false));
+    }
+
+    @Test
+    void sameOrNewerRunIsNotStale() {
+        dispatchedRunIndex = createIndex(true, 10);
+        final UUID taskId = UUID.randomUUID();
+        final ProcessRunDto run = createRun(TIMESTAMP);
+        final ProcessRunDto newerRun = createRun(TIMESTAMP.plusMinutes(10));
+        dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, run), false);
+
+        Assertions.assertSame(DispatchedRunIndex.Reservation.NONE, dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, run), false));
+        Assertions.assertNotNull(dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, run, newerRun), false));
+
+        Assertions.assertEquals(newerRun.getId(), dispatchedRunIndex.getDispatchedRun(taskId).runId());
+    }
+
+    @Test
+    void nothingIsIndexedWhenDisabled() {
+        dispatchedRunIndex = createIndex(false, 10);
+        final UUID taskId = UUID.randomUUID();
+
+        Assertions.assertSame(DispatchedRunIndex.Reservation.NONE, dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, createRun(TIMESTAMP.plusMinutes(10))), true));
+        Assertions.assertSame(DispatchedRunIndex.Reservation.NONE, dispatchedRunIndex.reserve(createTaskDto(taskId, TIMESTAMP, createRun(TIMESTAMP)), true));
+
+        Assertions.assertTrue(dispatchedRunIndex.getDispatchedRuns().isEmpty());
+    }
+
+    @Test
+    void tasksOfPastBusinessDaysAreEvicted() {
+        dispatchedRunIndex = createIndex(true, 10);
+        final UUID twoDaysAgoTaskId = UUID.randomUUID();
+        final UUID yesterdayTaskId = UUID.randomUUID();
+        final UUID todayTaskId = UUID.randomUUID();
+        dispatchedRunIndex.reserve(createTaskDto(twoDaysAgoTaskId, OffsetDateTime.parse("2025-09-30T12:00Z"), createRun(TIMESTAMP)), true);
+        dispatchedRunIndex.reserve(createTaskDto(yesterdayTaskId, OffsetDateTime.parse("2025-10-01T12:00Z"), createRun(TIMESTAMP)), true);
+        // 2025-10-01T22:30Z is already on 2025-10-02 in Paris
+        dispatchedRunIndex.reserve(createTaskDto(todayTaskId, OffsetDateTime.parse("2025-10-01T22:30Z"), createRun(TIMESTAMP)), true);
+
+        dispatchedRunIndex.evictPastBusinessDays(LocalDate.parse("2025-10-02"));
+
+        Assertions.assertEquals(Set.of(yesterdayTaskId, todayTaskId), dispatchedRunIndex.getDispatchedRuns().keySet());
+        Assertions.assertEquals(1.0, meterRegistry.get("core.valid.intraday.adapter.run.index.evicted").counter().count());
+    }
+
+    @Test
+    void oldestTimestampsAreEvictedBeyondMaximumEntries() {
+        dispatchedRunIndex = createIndex(true, 2);
+        final UUID oldestTaskId = UUID.randomUUID();
+        dispatchedRunIndex.reserve(createTaskDto(oldestTaskId, TIMESTAMP, createRun(TIMESTAMP)), true);
+        dispatchedRunIndex.reserve(createTaskDto(UUID.randomUUID(), TIMESTAMP.plusHours(1), createRun(TIMESTAMP)), true);
+        dispatchedRunIndex.reserve(createTaskDto(UUID.randomUUID(), TIMESTAMP.plusHours(2), createRun(TIMESTAMP)), true);
+
+        Assertions.assertEquals(2, dispatchedRunIndex.getDispatchedRuns().size());
+        Assertions.assertNull(dispatchedRunIndex.getDispatchedRun(oldestTaskId));
+        Assertions.assertEquals(1.0, meterRegistry.get("core.valid.intraday.adapter.run.index.evicted").counter().count());
+    }
+
+    @Test
+    void evictedTaskIsIndexedAgainOnceReserved() {
+        dispatchedRunIndex = createIndex(true, 10);
+        final UUID taskId = UUID.randomUUID();
+        dispatchedRunIndex.reserve(createTaskDto(taskId, OffsetDateTime.parse("2025-09-30T12:00Z"), createRun(TIMESTAMP)), true);
+        dispatchedRunIndex.evictPastBusinessDays(LocalDate.parse("2025-10-02"));
+
+        dispatchedRunIndex.reserve(createTaskDto(taskId, OffsetDateTime.parse("2025-09-30T12:00Z"), createRun(TIMESTAMP)), true);
+        dispatchedRunIndex.evictPastBusinessDays(LocalDate.parse("2025-10-02"));
+
+        Assertions.assertTrue(dispatchedRunIndex.getDispatchedRuns().isEmpty());
+        Assertions.assertEquals(2.0, meterRegistry.get("core.valid.intraday.adapter.run.index.evicted").counter().count());
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.loadtest;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterListener;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayRequest;
+import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Drives the consumers of the adapter through the in-memory test binder at a given rate, with MinIO and runner
+ * stubs of configurable latency, and reports the message-to-dispatch latency percentiles and the throughput.
+ * Latencies are measured from the time each message was due to be sent rather than from its actual sending, so
+ * that a saturated adapter shows in the latencies instead of slowing the sending down.
+ * Left out of the default build, it is run through the {@code load-test} profile, see {@link LoadProfile} for
+ * the settings of the load.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+    "spring.cloud.function.definition=consumeTask;consumeAutoTask",
+    "spring.cloud.stream.default-binder=integration",
+    "core-valid-intraday-adapter.file-types.ignored=CNEC-RAM-ARCHIVE,VERTICE-ARCHIVE,CGM-ARCHIVE,GLSK-ARCHIVE,MERGED-CNEC-ARCHIVE,MARKET-POINT-ARCHIVE,PRA-ARCHIVE"
+})
+@Import(TestChannelBinderConfiguration.class)
+class CoreValidIntradayAdapterLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoreValidIntradayAdapterLoadTest.class);
+    private static final List<String> FILE_TYPES = List.of("CNEC-RAM", "VERTICE", "CGM", "GLSK", "MERGED-CNEC", "MARKET-POINT", "PRA");
+    private static final String IGNORED_SUFFIX = "-ARCHIVE";
+    private static final String MANUAL_DESTINATION = "consumeTask-in-0";
+    private static final String AUTOMATIC_DESTINATION = "consumeAutoTask-in-0";
+    private static final OffsetDateTime FIRST_TIMESTAMP = OffsetDateTime.parse("2025-10-02T00:30Z");
+
+    @MockitoBean
+    private CoreValidIntradayClient coreValidIntradayClient;
+
+    @MockitoBean
+    private MinioAdapter minioAdapter;
+
+    @Autowired
+    private InputDestination inputDestination;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<String, Long> sendTimes = new ConcurrentHashMap<>();
+    private final AtomicInteger dispatchCount = new AtomicInteger();
+    private final AtomicInteger failureCount = new AtomicInteger();
+
+    @Test
+    void reportLatencyAndThroughputUnderLoad() throws Exception {
+        final LoadProfile profile = LoadProfile.fromSystemProperties();
+        final LoadReport report = new LoadReport();
+        stubLatencies(profile, report);
+        final Random random = new Random(42);
+
+        sendMessages(profile, 0, profile.warmupMessages(), random, null);
+        await().atMost(5, TimeUnit.MINUTES).until(() -> dispatchCount.get() + failureCount.get() == profile.warmupMessages());
+        sendMessages(profile, profile.warmupMessages(), profile.messages(), random, report);
+        await().atMost(5, TimeUnit.MINUTES).until(() -> report.getDispatchCount() + failureCount.get() == profile.messages());
+
+        final Path reportPath = report.writeTo(profile.reportDirectory(), profile.name());
+        LOGGER.info("Load test report written to {}:\n{}", reportPath.toAbsolutePath(), String.join("\n", report.toCsvLines(profile.name())));
+        Assertions.assertEquals(0, failureCount.get(), "Run requests failed during the load test");
+    }
+
+    private void stubLatencies(final LoadProfile profile, final LoadReport report) {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(Mockito.anyString(), Mockito.anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(profile.minioLatency().toMillis());
+            return "https://minio.load-test" + invocation.getArgument(0);
+        });
+        Mockito.doAnswer(invocation -> {
+            Thread.sleep(profile.runnerLatency().toMillis());
+            final CoreValidIntradayRequest request = invocation.getArgument(0);
+            final Long sendNanos = sendTimes.remove(request.getId());
+            if (sendNanos != null) {
+                report.recordDispatch(request.getLaunchedAutomatically() ? CoreValidIntradayAdapterListener.AUTOMATIC : CoreValidIntradayAdapterListener.MANUAL,
+                                      sendNanos, System.nanoTime());
+            }
+            dispatchCount.incrementAndGet();
+            return null;
+        }).when(coreValidIntradayClient).run(Mockito.any());
+    }
+
+    /**
+     * Sends the given number of run requests at the rate of the profile, each binding being consumed by its own
+     * pool of consumer threads, like the listener containers of the broker binder. Latencies are recorded in the
+     * report if any.
+     */
+    private void sendMessages(final LoadProfile profile, final int firstIndex, final int count, final Random random, final LoadReport report) throws Exception {
+        final ExecutorService manualConsumers = Executors.newFixedThreadPool(profile.concurrency());
+        final ExecutorService automaticConsumers = Executors.newFixedThreadPool(profile.concurrency());
+        try {
+            final long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                final boolean isAutomatic = random.nextDouble() < profile.automaticRatio();
+                final TaskDto taskDto = createTaskDto(profile, firstIndex + i, random);
+                final byte[] payload = objectMapper.writeValueAsBytes(taskDto);
+                final long sendNanos = start + i * profile.sendIntervalNanos();
+                waitUntil(sendNanos);
+                if (report != null) {
+                    sendTimes.put(taskDto.getId().toString(), sendNanos);
+                    report.recordSend(sendNanos);
+                }
+                (isAutomatic ? automaticConsumers : manualConsumers).execute(() -> send(payload, isAutomatic ? AUTOMATIC_DESTINATION : MANUAL_DESTINATION));
+            }
+        } finally {
+            manualConsumers.shutdown();
+            automaticConsumers.shutdown();
+            manualConsumers.awaitTermination(5, TimeUnit.MINUTES);
+            automaticConsumers.awaitTermination(5, TimeUnit.MINUTES);
+        }
+    }
+
+    private void send(final byte[] payload, final String destination) {
+        try {
+            inputDestination.send(MessageBuilder.withPayload(payload).build(), destination);
+        } catch (final Exception e) {
+            LOGGER.warn("Run request sent to {} failed", destination, e);
+            failureCount.incrementAndGet();
+        }
+    }
+
+    private static void waitUntil(final long nanos) {
+        long remaining;
+        while ((remaining = nanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * @return a ready task on its own timestamp, with inputs of its own so that each of them has to be signed
+     */
+    private static TaskDto createTaskDto(final LoadProfile profile, final int index, final Random random) {
+        final OffsetDateTime timestamp = FIRST_TIMESTAMP.plusMinutes(15L * index);
+        final List<ProcessFileDto> inputs = new ArrayList<>(profile.inputs());
+        for (int i = 0; i < profile.inputs(); i++) {
+            final String fileType = FILE_TYPES.get(i % FILE_TYPES.size()) + (i < FILE_TYPES.size() ? "" : IGNORED_SUFFIX);
+            inputs.add(new ProcessFileDto("/inputs/%d/%s/%d".formatted(index, fileType, i), fileType, ProcessFileStatus.VALIDATED,
+                                          fileType + "-" + i, "doc" + i, timestamp));
+        }
+        final List<ProcessRunDto> runHistory = new ArrayList<>(profile.runHistorySize());
+        for (int i = 0; i < profile.runHistorySize(); i++) {
+            runHistory.add(new ProcessRunDto(UUID.randomUUID(), timestamp.plusSeconds(random.nextInt(3600)), List.of()));
+        }
+        return new TaskDto(UUID.randomUUID(), timestamp, TaskStatus.READY, inputs, null, List.of(), List.of(), runHistory, List.of());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Shape of the load applied to the adapter, read from {@code load-test.*} system properties so that it can be
+ * set from the Maven command line, for instance {@code -Dload-test.rate=200}.
+ *
+ * @param name            name of the run, used to name its report
+ * @param warmupMessages  number of run requests sent before the measured ones, left out of the report
+ * @param messages        number of run requests measured
+ * @param rate            run requests sent per second, over both bindings
+ * @param automaticRatio  share of the run requests sent to the automatic binding
+ * @param concurrency     number of consumer threads of each binding
+ * @param inputs          number of inputs of each task, those beyond one per file type being ignored by the adapter
+ * @param runHistorySize  number of runs in the history of each task
+ * @param minioLatency    latency added to each URL signing
+ * @param runnerLatency   latency added to each hand-over to the runner
+ * @param reportDirectory directory the report is written to
+ * @author agent {@literal <agent at local>}
+ */
+record LoadProfile(String name,
+                   int warmupMessages,
+                   int messages,
+                   double rate,
+                   double automaticRatio,
+                   int concurrency,
+                   int inputs,
+                   int runHistorySize,
+                   Duration minioLatency,
+                   Duration runnerLatency,
+                   Path reportDirectory) {
+
+    private static final String PREFIX = "load-test.";
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(System.getProperty(PREFIX + "name", "default"),
+                               Integer.getInteger(PREFIX + "warmup-messages", 100),
+                               Integer.getInteger(PREFIX + "messages", 500),
+                               Double.parseDouble(System.getProperty(PREFIX + "rate", "50")),
+                               Double.parseDouble(System.getProperty(PREFIX + "automatic-ratio", "0.8")),
+                               Integer.getInteger(PREFIX + "concurrency", 1),
+                               Integer.getInteger(PREFIX + "inputs", 7),
+                               Integer.getInteger(PREFIX + "run-history-size", 10),
+                               Duration.ofMillis(Long.getLong(PREFIX + "minio-latency-ms", 2)),
+                               Duration.ofMillis(Long.getLong(PREFIX + "runner-latency-ms", 10)),
+                               Path.of(System.getProperty(PREFIX + "report-directory", "target/load-test")));
+    }
+
+    long sendIntervalNanos() {
+        return (long) (Duration.ofSeconds(1).toNanos() / rate);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Message-to-dispatch latencies recorded during a load test, by launch type, and the report built from them.
+ * The report is a CSV file with one line per launch type and one for all run requests, so that the reports of
+ * two builds can be compared line by line.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class LoadReport {
+
+    static final String ALL = "all";
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+    private static final String HEADER = "name,launch.type,messages,duration.s,throughput.per.s,p50.ms,p90.ms,p95.ms,p99.ms,p99.9.ms,max.ms";
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private volatile long firstSendNanos = Long.MAX_VALUE;
+    private volatile long lastDispatchNanos = Long.MIN_VALUE;
+
+    synchronized void recordSend(final long sendNanos) {
+        firstSendNanos = Math.min(firstSendNanos, sendNanos);
+    }
+
+    void recordDispatch(final String launchType, final long sendNanos, final long dispatchNanos) {
+        latencies.computeIfAbsent(launchType, type -> new ConcurrentLinkedQueue<>()).add(dispatchNanos - sendNanos);
+        synchronized (this) {
+            lastDispatchNanos = Math.max(lastDispatchNanos, dispatchNanos);
+        }
+    }
+
+    int getDispatchCount() {
+        return latencies.values().stream().mapToInt(ConcurrentLinkedQueue::size).sum();
+    }
+
+    List<String> toCsvLines(final String name) {
+        final double durationSeconds = (lastDispatchNanos - firstSendNanos) / 1e9;
+        final List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        latencies.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> lines.add(toCsvLine(name, entry.getKey(), sortedLatencies(List.copyOf(entry.getValue())), durationSeconds)));
+        lines.add(toCsvLine(name, ALL, sortedLatencies(latencies.values().stream().flatMap(ConcurrentLinkedQueue::stream).toList()), durationSeconds));
+        return lines;
+    }
+
+    Path writeTo(final Path directory, final String name) throws IOException {
+        Files.createDirectories(directory);
+        return Files.write(directory.resolve("load-test-%s.csv".formatted(name)), toCsvLines(name));
+    }
+
+    private static long[] sortedLatencies(final List<Long> latencies) {
+        final long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static String toCsvLine(final String name, final String launchType, final long[] sortedLatencies, final double durationSeconds) {
+        final StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.1f", name, launchType, sortedLatencies.length,
+                                                                   durationSeconds, sortedLatencies.length / durationSeconds));
+        for (final double percentile : PERCENTILES) {
+            line.append(String.format(Locale.ROOT, ",%.3f", toMillis(percentile(sortedLatencies, percentile))));
+        }
+        line.append(String.format(Locale.ROOT, ",%.3f", toMillis(sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length - 1])));
+        return line.toString();
+    }
+
+    /**
+     * @return the nearest-rank percentile of the sorted latencies
+     */
+    static long percentile(final long[] sortedLatencies, final double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+        return sortedLatencies[Math.max(rank, 1) - 1];
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.mapping;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.FileTypeProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CoreValidIntradayRequestMapperTest {
+
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2025-10-02T14:30Z");
+
+    private final CoreValidIntradayAdapterMetrics metrics = new CoreValidIntradayAdapterMetrics(new SimpleMeterRegistry());
+
+    private CoreValidIntradayRequestMapper createMapper(final FileTypeProperties properties) {
+        return new CoreValidIntradayRequestMapper(new FileTypeRegistry(properties), metrics);
+    }
+
+    private CoreValidIntradayRequestMapper createMapper() {
+        return createMapper(new FileTypeProperties(Map.of(), Set.of(), Set.of()));
+    }
+
+    private static ProcessFileDto processFile(final String fileType) {
+        return new ProcessFileDto("/" + fileType, fileType, ProcessFileStatus.VALIDATED, fileType.toLowerCase(), "docId", TIMESTAMP);
+    }
+
+    private static List<ProcessFileDto> allInputs() {
+        return new ArrayList<>(Arrays.stream(InputSlot.values()).map(inputSlot -> processFile(inputSlot.getDefaultFileType())).toList());
+    }
+
+    private static TaskDto createTaskDto(final List<ProcessFileDto> inputs, final List<ProcessRunDto> runHistory) {
+        return new TaskDto(UUID.randomUUID(), TIMESTAMP, TaskStatus.READY, inputs, null, List.of(), List.of(), runHistory, List.of());
+    }
+
+    private static List<ProcessRunDto> singleRun() {
+        return List.of(new ProcessRunDto(UUID.randomUUID(), TIMESTAMP, List.of()));
+    }
+
+    @Test
+    void latestRunIsSelectedWithoutReorderingRunHistory() {
+        final ProcessRunDto oldRun = new ProcessRunDto(UUID.randomUUID(), TIMESTAMP, List.of());
+        final ProcessRunDto latestRun = new ProcessRunDto(UUID.randomUUID(), TIMESTAMP.plusHours(2), List.of());
+        final ProcessRunDto intermediateRun = new ProcessRunDto(UUID.randomUUID(), TIMESTAMP.plusHours(1), List.of());
+        final List<ProcessRunDto> runHistory = new ArrayList<>(List.of(oldRun, latestRun, intermediateRun));
+
+        final String runId = createMapper().getCurrentRunId(createTaskDto(allInputs(), runHistory), false);
+
+        Assertions.assertEquals(latestRun.getId().toString(), runId);
+        Assertions.assertEquals(List.of(oldRun, latestRun, intermediateRun), runHistory);
+    }
+
+    @Test
+    void runsWithoutExecutionDateAreSkipped() {
+        final ProcessRunDto undatedRun = new ProcessRunDto(UUID.randomUUID(), null, List.of());
+        final ProcessRunDto datedRun = new ProcessRunDto(UUID.randomUUID(), TIMESTAMP, List.of());
+
+        final String runId = createMapper().getCurrentRunId(createTaskDto(allInputs(), List.of(undatedRun, datedRun, undatedRun)), false);
+
+        Assertions.assertEquals(datedRun.getId().toString(), runId);
+    }
+
+    @Test
+    void requestIsBuiltFromSignedInputs() {
+        final CoreValidIntradayRequestMapper mapper = createMapper();
+        final TaskDto taskDto = createTaskDto(allInputs(), singleRun());
+
+        final PreparedRequest preparedRequest = mapper.prepare(taskDto, true);
+        final CoreValidIntradayRequest request = mapper.toRequest(preparedRequest, Map.of("/CGM", "https://cgm", "/PRA", "https://pra"));
+
+        Assertions.assertEquals(7, preparedRequest.files().size());
+        Assertions.assertEquals(taskDto.getRunHistory().getFirst().getId().toString(), request.getCurrentRunId());
+        Assertions.assertEquals("cgm", request.getCgm().getFilename());
+        Assertions.assertEquals("https://cgm", request.getCgm().getUrl());
+        Assertions.assertEquals("https://pra", request.getPra().getUrl());
+        Assertions.assertTrue(request.getLaunchedAutomatically());
+    }
+
+    @Test
+    void duplicateInputIsRejected() {
+        final List<ProcessFileDto> inputs = allInputs();
+        inputs.add(new ProcessFileDto("/other/CGM", "CGM", ProcessFileStatus.VALIDATED, "cgm-bis", "docId", TIMESTAMP));
+        final TaskDto taskDto = createTaskDto(inputs, singleRun());
+        final CoreValidIntradayRequestMapper mapper = createMapper();
+
+        final CoreValidIntradayAdapterException exception = Assertions.assertThrows(CoreValidIntradayAdapterException.class,
+                                                                                    () -> mapper.prepare(taskDto, false));
+        Assertions.assertEquals("Task on timestamp 2025-10-02T14:30Z has several CGM inputs: /CGM and /other/CGM", exception.getMessage());
+    }
+
+    @Test
+    void missingMandatoryInputIsRejected() {
+        final List<ProcessFileDto> inputs = allInputs();
+        inputs.removeIf(processFile -> processFile.getFileType().equals("GLSK"));
+        final TaskDto taskDto = createTaskDto(inputs, singleRun());
+        final CoreValidIntradayRequestMapper mapper = createMapper(new FileTypeProperties(Map.of(), Set.of(), Set.of(InputSlot.GLSK)));
+
+        final CoreValidIntradayAdapterException exception = Assertions.assertThrows(CoreValidIntradayAdapterException.class,
+                                                                                    () -> mapper.prepare(taskDto, false));
+        Assertions.assertEquals("Task on timestamp 2025-10-02T14:30Z has no GLSK input", exception.getMessage());
+    }
+
+    @Test
+    void inputsAreOptionalByDefault() {
+        final List<ProcessFileDto> inputs = allInputs();
+        inputs.removeIf(processFile -> processFile.getFileType().equals("GLSK"));
+        final CoreValidIntradayRequestMapper mapper = createMapper();
+
+        final CoreValidIntradayRequest request = mapper.toRequest(mapper.prepare(createTaskDto(inputs, singleRun()), false), Map.of());
+
+        Assertions.assertNull(request.getGlsk());
+        Assertions.assertEquals("cgm", request.getCgm().getFilename());
+    }
+
+    @Test
+    void configuredFileTypesAreResolved() {
+        final List<ProcessFileDto> inputs = allInputs();
+        inputs.removeIf(processFile -> processFile.getFileType().equals("CGM") || processFile.getFileType().equals("PRA"));
+        inputs.add(processFile("CGM-V2"));
+        inputs.add(processFile("REF-PROG"));
+        final CoreValidIntradayRequestMapper mapper = createMapper(new FileTypeProperties(Map.of("CGM-V2", InputSlot.CGM),
+                                                                                          Set.of("REF-PROG"),
+                                                                                          Set.of(InputSlot.CGM)));
+
+        final CoreValidIntradayRequest request = mapper.toRequest(mapper.prepare(createTaskDto(inputs, singleRun()), false), Map.of());
+
+        Assertions.assertEquals("cgm-v2", request.getCgm().getFilename());
+        Assertions.assertNull(request.getPra());
+    }
+
+    @Test
+    void conflictingFileTypeConfigurationIsRejected() {
+        final FileTypeProperties properties = new FileTypeProperties(Map.of("CGM", InputSlot.GLSK), Set.of(), Set.of());
+
+        Assertions.assertThrows(CoreValidIntradayAdapterException.class, () -> new FileTypeRegistry(properties));
+    }
+}
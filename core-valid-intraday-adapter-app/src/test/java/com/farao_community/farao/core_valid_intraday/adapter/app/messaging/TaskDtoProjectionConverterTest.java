@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.messaging;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PayloadProjectionProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TaskDtoProjectionConverterTest {
+
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2025-10-02T14:30Z");
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private static ProcessFileDto createProcessFile(final String fileType) {
+        return new ProcessFileDto("/" + fileType, fileType, ProcessFileStatus.VALIDATED, fileType.toLowerCase(), "docId", TIMESTAMP);
+    }
+
+    private static TaskDto createTaskDto(final List<ProcessRunDto> runHistory) {
+        final List<ProcessFileDto> inputs = List.of(createProcessFile("CGM"), createProcessFile("GLSK"));
+        return new TaskDto(UUID.randomUUID(), TIMESTAMP, TaskStatus.READY, inputs, inputs, List.of(createProcessFile("OUTPUT")),
+                           List.of(), runHistory, List.of());
+    }
+
+    private TaskDto convert(final boolean enabled, final byte[] payload) {
+        final TaskDtoProjectionConverter converter = new TaskDtoProjectionConverter(new PayloadProjectionProperties(enabled), objectMapper);
+        final Message<byte[]> message = MessageBuilder.withPayload(payload).build();
+        return (TaskDto) converter.fromMessage(message, TaskDto.class);
+    }
+
+    @Test
+    void projectionKeepsWhatRequestsAreBuiltFromAndOnlyLatestRun() throws Exception {
+        final ProcessRunDto latestRun = new ProcessRunDto(UUID.randomUUID(), TIMESTAMP.plusHours(2), List.of(createProcessFile("CGM")));
+        final ProcessRunDto sameDateRun = new ProcessRunDto(UUID.randomUUID(), TIMESTAMP.plusHours(2), List.of());
+        final TaskDto taskDto = createTaskDto(List.of(new ProcessRunDto(UUID.randomUUID(), TIMESTAMP, List.of()),
+                                                      latestRun,
+                                                      new ProcessRunDto(UUID.randomUUID(), TIMESTAMP.plusHours(1), List.of()),
+                                                      sameDateRun));
+        final ObjectNode json = objectMapper.valueToTree(taskDto);
+        json.putObject("fieldAddedByTaskManager").putArray("values").add(1);
+
+        final TaskDto projection = convert(true, objectMapper.writeValueAsBytes(json));
+
+        Assertions.assertEquals(taskDto.getId(), projection.getId());
+        Assertions.assertTrue(taskDto.getTimestamp().isEqual(projection.getTimestamp()));
+        Assertions.assertEquals(TaskStatus.READY, projection.getStatus());
+        Assertions.assertEquals(List.of("/CGM", "/GLSK"), projection.getInputs().stream().map(ProcessFileDto::getFilePath).toList());
+        Assertions.assertEquals(1, projection.getRunHistory().size());
+        Assertions.assertEquals(latestRun.getId(), projection.getRunHistory().get(0).getId());
+        Assertions.assertTrue(projection.getOutputs().isEmpty());
+    }
+
+    @Test
+    void taskWithoutRunHistoryHasEmptyProjectedHistory() throws Exception {
+        final TaskDto projection = convert(true, objectMapper.writeValueAsBytes(createTaskDto(null)));
+
+        Assertions.assertTrue(projection.getRunHistory().isEmpty());
+    }
+
+    @Test
+    void runsWithoutExecutionDateAreSkipped() throws Exception {
+        final ProcessRunDto datedRun = new ProcessRunDto(UUID.randomUUID(), TIMESTAMP, List.of());
+        final TaskDto taskDto = createTaskDto(List.of(new ProcessRunDto(UUID.randomUUID(), null, List.of()),
+                                                      datedRun,
+                                                      new ProcessRunDto(UUID.randomUUID(), null, List.of())));
+
+        final TaskDto projection = convert(true, objectMapper.writeValueAsBytes(taskDto));
+
+        Assertions.assertEquals(1, projection.getRunHistory().size());
+        Assertions.assertEquals(datedRun.getId(), projection.getRunHistory().get(0).getId());
+    }
+
+    @Test
+    void runHistoryWithoutDatedRunHasEmptyProjectedHistory() throws Exception {
+        final TaskDto taskDto = createTaskDto(List.of(new ProcessRunDto(UUID.randomUUID(), null, List.of())));
+
+        final TaskDto projection = convert(true, objectMapper.writeValueAsBytes(taskDto));
+
+        Assertions.assertTrue(projection.getRunHistory().isEmpty());
+    }
+
+    @Test
+    void listsOfTasksAreLeftToDefaultConversion() throws Exception {
+        final TaskDtoProjectionConverter converter = new TaskDtoProjectionConverter(new PayloadProjectionProperties(true), objectMapper);
+        final Message<byte[]> message = MessageBuilder.withPayload(objectMapper.writeValueAsBytes(List.of(createTaskDto(List.of())))).build();
+
+        Assertions.assertNull(converter.fromMessage(message, List.class));
+    }
+
+    @Test
+    void tasksAreLeftToDefaultConversionWhenDisabled() throws Exception {
+        Assertions.assertNull(convert(false, objectMapper.writeValueAsBytes(createTaskDto(List.of()))));
+    }
+
+    @Test
+    void malformedPayloadFailsConversion() {
+        final byte[] payload = "[\"not a task\"]".getBytes();
+        Assertions.assertThrows(MessageConversionException.class, () -> convert(true, payload));
+    }
+}
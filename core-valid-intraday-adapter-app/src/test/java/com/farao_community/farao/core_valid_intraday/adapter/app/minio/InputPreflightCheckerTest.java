@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.minio;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayInvalidTaskException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PreflightProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.InputSlot;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.PreparedRequest;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.MinioClient;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class InputPreflightCheckerTest {
+
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2025-10-02T14:30Z");
+
+    private final MinioClient minioClient = Mockito.mock(MinioClient.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoreValidIntradayAdapterMetrics metrics = new CoreValidIntradayAdapterMetrics(meterRegistry);
+    private InputPreflightChecker inputPreflightChecker;
+
+    @AfterEach
+    void tearDown() {
+        if (inputPreflightChecker != null) {
+            inputPreflightChecker.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private InputPreflightChecker createChecker(final boolean enabled, final Duration timeout) {
+        final ObjectProvider<MinioClient> minioClientProvider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(minioClientProvider.getIfAvailable()).thenReturn(minioClient);
+        return new InputPreflightChecker(new PreflightProperties(enabled, "gridcapa", timeout, 100, Duration.ofHours(1)),
+                                         minioClientProvider,
+                                         metrics,
+                                         meterRegistry);
+    }
+
+    private static ProcessFileDto createProcessFile(final String fileType, final OffsetDateTime lastModificationDate) {
+        return new ProcessFileDto("/" + fileType, fileType, ProcessFileStatus.VALIDATED, fileType.toLowerCase(), "docId", lastModificationDate);
+    }
+
+    private static PreparedRequest createPreparedRequest(final ProcessFileDto... processFiles) {
+        final Map<InputSlot, ProcessFileDto> inputs = new EnumMap<>(InputSlot.class);
+        for (int i = 0; i < processFiles.length; i++) {
+            inputs.put(InputSlot.values()[i], processFiles[i]);
+        }
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), TIMESTAMP, TaskStatus.READY, List.of(processFiles), null, List.of(), List.of(), List.of(), List.of());
+        return new PreparedRequest(taskDto, "runId", inputs, true);
+    }
+
+    private static StatObjectResponse statResponse(final long size) {
+        final StatObjectResponse response = Mockito.mock(StatObjectResponse.class);
+        Mockito.when(response.etag()).thenReturn("etag");
+        Mockito.when(response.size()).thenReturn(size);
+        return response;
+    }
+
+    private static ErrorResponseException errorResponseException(final String code) {
+        final ErrorResponse errorResponse = Mockito.mock(ErrorResponse.class);
+        Mockito.when(errorResponse.code()).thenReturn(code);
+        final ErrorResponseException exception = Mockito.mock(ErrorResponseException.class);
+        Mockito.when(exception.errorResponse()).thenReturn(errorResponse);
+        return exception;
+    }
+
+    private static StatObjectArgs forPath(final String path) {
+        return ArgumentMatchers.argThat(args -> args != null && path.equals(args.object()));
+    }
+
+    @Test
+    void nothingIsCheckedWhenDisabled() {
+        inputPreflightChecker = createChecker(false, Duration.ofSeconds(5));
+
+        inputPreflightChecker.check(createPreparedRequest(createProcessFile("CGM", TIMESTAMP)));
+
+        Mockito.verifyNoInteractions(minioClient);
+    }
+
+    private static StatObjectArgs forPath(final String path, final String matchETag) {
+        return ArgumentMatchers.argThat(args -> args != null && path.equals(args.object()) && Objects.equals(matchETag, args.matchETag()));
+    }
+
+    @Test
+    void existingInputsAreCachedUntilTheyAreModified() throws Exception {
+        inputPreflightChecker = createChecker(true, Duration.ofSeconds(5));
+        final StatObjectResponse response = statResponse(42);
+        Mockito.when(minioClient.statObject(ArgumentMatchers.any())).thenReturn(response);
+
+        inputPreflightChecker.check(createPreparedRequest(createProcessFile("CGM", TIMESTAMP), createProcessFile("GLSK", TIMESTAMP)));
+        inputPreflightChecker.check(createPreparedRequest(createProcessFile("CGM", TIMESTAMP), createProcessFile("GLSK", TIMESTAMP.plusMinutes(5))));
+        inputPreflightChecker.check(createPreparedRequest(createProcessFile("CGM", TIMESTAMP), createProcessFile("GLSK", TIMESTAMP.plusMinutes(5))));
+
+        Mockito.verify(minioClient, Mockito.times(1)).statObject(forPath("/CGM"));
+        Mockito.verify(minioClient, Mockito.times(1)).statObject(forPath("/GLSK", null));
+        Mockito.verify(minioClient, Mockito.times(1)).statObject(forPath("/GLSK", "etag"));
+        Assertions.assertEquals(3, meterRegistry.get("core.valid.intraday.adapter.preflight").tag("launch.type", "automatic").timer().count());
+    }
+
+    @Test
+    void modifiedInputIsCheckedAgainOnceItsEtagChanged() throws Exception {
+        inputPreflightChecker = createChecker(true, Duration.ofSeconds(5));
+        final StatObjectResponse response = statResponse(42);
+        final StatObjectResponse emptyResponse = statResponse(0);
+        final ErrorResponseException preconditionFailed = errorResponseException("PreconditionFailed");
+        Mockito.when(minioClient.statObject(forPath("/CGM", null))).thenReturn(response, emptyResponse);
+        Mockito.when(minioClient.statObject(forPath("/CGM", "etag"))).thenThrow(preconditionFailed);
+        inputPreflightChecker.check(createPreparedRequest(createProcessFile("CGM", TIMESTAMP)));
+        final PreparedRequest preparedRequest = createPreparedRequest(createProcessFile("CGM", TIMESTAMP.plusMinutes(5)));
+
+        final CoreValidIntradayInvalidTaskException exception = Assertions.assertThrows(CoreValidIntradayInvalidTaskException.class,
+                                                                                          () -> inputPreflightChecker.check(preparedRequest));
+
+        Assertions.assertTrue(exception.getMessage().contains("empty"));
+        Mockito.verify(minioClient, Mockito.times(2)).statObject(forPath("/CGM", null));
+    }
+
+    @Test
+    void deletedInputIsNoLongerCached() throws Exception {
+        inputPreflightChecker = createChecker(true, Duration.ofSeconds(5));
+        final StatObjectResponse response = statResponse(42);
+        final ErrorResponseException noSuchKey = errorResponseException("NoSuchKey");
+        Mockito.when(minioClient.statObject(forPath("/CGM", null))).thenReturn(response);
+        Mockito.when(minioClient.statObject(forPath("/CGM", "etag"))).thenThrow(noSuchKey);
+        inputPreflightChecker.check(createPreparedRequest(createProcessFile("CGM", TIMESTAMP)));
+        final PreparedRequest preparedRequest = createPreparedRequest(createProcessFile("CGM", TIMESTAMP.plusMinutes(5)));
+
+        Assertions.assertThrows(CoreValidIntradayInvalidTaskException.class, () -> inputPreflightChecker.check(preparedRequest));
+        inputPreflightChecker.check(createPreparedRequest(createProcessFile("CGM", TIMESTAMP.plusMinutes(10))));
+
+        Mockito.verify(minioClient, Mockito.times(2)).statObject(forPath("/CGM", null));
+    }
+
+    @Test
+    void missingInputRejectsTaskWithPreciseError() throws Exception {
+        inputPreflightChecker = createChecker(true, Duration.ofSeconds(5));
+        final StatObjectResponse response = statResponse(42);
+        Mockito.when(minioClient.statObject(forPath("/CGM"))).thenReturn(response);
+        final ErrorResponseException noSuchKey = errorResponseException("NoSuchKey");
+        Mockito.when(minioClient.statObject(forPath("/GLSK"))).thenThrow(noSuchKey);
+        final PreparedRequest preparedRequest = createPreparedRequest(createProcessFile("CGM", TIMESTAMP), createProcessFile("GLSK", TIMESTAMP));
+
+        final CoreValidIntradayInvalidTaskException exception = Assertions.assertThrows(CoreValidIntradayInvalidTaskException.class,
+                                                                                          () -> inputPreflightChecker.check(preparedRequest));
+
+        Assertions.assertTrue(exception.getMessage().contains("GLSK /GLSK"));
+        Assertions.assertTrue(exception.getMessage().contains("missing"));
+        Assertions.assertEquals(1.0, meterRegistry.get("core.valid.intraday.adapter.preflight.rejected").tag("file.type", "GLSK").counter().count());
+    }
+
+    @Test
+    void emptyInputRejectsTask() throws Exception {
+        inputPreflightChecker = createChecker(true, Duration.ofSeconds(5));
+        final StatObjectResponse response = statResponse(0);
+        Mockito.when(minioClient.statObject(ArgumentMatchers.any())).thenReturn(response);
+        final PreparedRequest preparedRequest = createPreparedRequest(createProcessFile("CGM", TIMESTAMP));
+
+        final CoreValidIntradayInvalidTaskException exception = Assertions.assertThrows(CoreValidIntradayInvalidTaskException.class,
+                                                                                          () -> inputPreflightChecker.check(preparedRequest));
+
+        Assertions.assertTrue(exception.getMessage().contains("empty"));
+    }
+
+    @Test
+    void firstFailureIsReportedWithoutWaitingForSlowerChecks() throws Exception {
+        inputPreflightChecker = createChecker(true, Duration.ofSeconds(5));
+        final CountDownLatch slowCheckReleased = new CountDownLatch(1);
+        Mockito.when(minioClient.statObject(forPath("/CGM"))).thenAnswer(invocation -> {
+            slowCheckReleased.await(5, TimeUnit.SECONDS);
+            return statResponse(42);
+        });
+        final ErrorResponseException noSuchKey = errorResponseException("NoSuchKey");
+        Mockito.when(minioClient.statObject(forPath("/GLSK"))).thenThrow(noSuchKey);
+        final PreparedRequest preparedRequest = createPreparedRequest(createProcessFile("CGM", TIMESTAMP), createProcessFile("GLSK", TIMESTAMP));
+
+        final long start = System.nanoTime();
+        Assertions.assertThrows(CoreValidIntradayInvalidTaskException.class, () -> inputPreflightChecker.check(preparedRequest));
+
+        Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+        slowCheckReleased.countDown();
+    }
+
+    @Test
+    void unavailableMinioIsTransientFailure() throws Exception {
+        inputPreflightChecker = createChecker(true, Duration.ofMillis(100));
+        Mockito.when(minioClient.statObject(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return statResponse(42);
+        });
+        final PreparedRequest preparedRequest = createPreparedRequest(createProcessFile("CGM", TIMESTAMP));
+
+        final CoreValidIntradayAdapterException exception = Assertions.assertThrows(CoreValidIntradayAdapterException.class,
+                                                                                      () -> inputPreflightChecker.check(preparedRequest));
+
+        Assertions.assertFalse(exception instanceof CoreValidIntradayInvalidTaskException);
+        Assertions.assertTrue(meterRegistry.find("core.valid.intraday.adapter.preflight.rejected").meters().isEmpty());
+    }
+}
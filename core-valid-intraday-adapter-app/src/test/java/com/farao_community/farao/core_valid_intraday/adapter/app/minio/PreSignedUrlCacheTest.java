@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.minio;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PreSignedUrlCacheProperties;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PreSignedUrlCacheTest {
+
+    private final MinioAdapter minioAdapter = Mockito.mock(MinioAdapter.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong ticker = new AtomicLong();
+    private final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+
+    private static PreSignedUrlCacheProperties properties(final boolean enabled, final Duration minimumRemainingLifetime) {
+        return new PreSignedUrlCacheProperties(enabled, 10, Duration.ofHours(1), minimumRemainingLifetime, Duration.ofMinutes(10));
+    }
+
+    private PreSignedUrlCache createCache(final Duration minimumRemainingLifetime, final Duration refreshAhead) {
+        final PreSignedUrlCacheProperties properties = new PreSignedUrlCacheProperties(true, 10, Duration.ofHours(1), minimumRemainingLifetime, refreshAhead);
+        return new PreSignedUrlCache(minioAdapter, properties, meterRegistry, ticker::get, backgroundTasks::add);
+    }
+
+    private void runBackgroundTasks() {
+        while (!backgroundTasks.isEmpty()) {
+            backgroundTasks.remove().run();
+        }
+    }
+
+    private void advance(final Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void cachedUrlIsHandedBackWithoutSigningAgain() {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/CGM", 1)).thenReturn("url-1", "url-2");
+        final PreSignedUrlCache preSignedUrlCache = new PreSignedUrlCache(minioAdapter, properties(true, Duration.ofMinutes(30)), meterRegistry);
+
+        Assertions.assertEquals("url-1", preSignedUrlCache.getPreSignedUrl("/CGM"));
+        Assertions.assertEquals("url-1", preSignedUrlCache.getPreSignedUrl("/CGM"));
+
+        Mockito.verify(minioAdapter, Mockito.times(1)).generatePreSignedUrlFromFullMinioPath("/CGM", 1);
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "pre-signed-urls").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "pre-signed-urls").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void urlIsSignedOnEveryCallWhenCacheIsDisabled() {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/CGM", 1)).thenReturn("url-1", "url-2");
+        final PreSignedUrlCache preSignedUrlCache = new PreSignedUrlCache(minioAdapter, properties(false, Duration.ofMinutes(30)), meterRegistry);
+
+        Assertions.assertEquals("url-1", preSignedUrlCache.getPreSignedUrl("/CGM"));
+        Assertions.assertEquals("url-2", preSignedUrlCache.getPreSignedUrl("/CGM"));
+        Assertions.assertTrue(meterRegistry.find("cache.gets").meters().isEmpty());
+    }
+
+    @Test
+    void urlIsSignedForTheConfiguredLifetime() {
+        final PreSignedUrlCacheProperties properties = new PreSignedUrlCacheProperties(true, 10, Duration.ofHours(3), Duration.ofMinutes(30), Duration.ofMinutes(10));
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/CGM", 3)).thenReturn("url-1");
+        final PreSignedUrlCache preSignedUrlCache = new PreSignedUrlCache(minioAdapter, properties, meterRegistry);
+
+        Assertions.assertEquals("url-1", preSignedUrlCache.getPreSignedUrl("/CGM"));
+    }
+
+    @Test
+    void urlLifetimeMustBeAWholeNumberOfHours() {
+        final PreSignedUrlCacheProperties properties = new PreSignedUrlCacheProperties(false, 10, Duration.ofMinutes(90), Duration.ofMinutes(30), Duration.ofMinutes(10));
+        final CoreValidIntradayAdapterException exception = Assertions.assertThrows(
+                CoreValidIntradayAdapterException.class,
+                () -> new PreSignedUrlCache(minioAdapter, properties, meterRegistry));
+        Assertions.assertEquals("Pre-signed URL lifetime PT1H30M must be a positive whole number of hours", exception.getMessage());
+    }
+
+    @Test
+    void minimumRemainingLifetimeMustBeShorterThanUrlLifetime() {
+        final PreSignedUrlCacheProperties properties = properties(true, Duration.ofHours(1));
+        Assertions.assertThrows(CoreValidIntradayAdapterException.class, () -> new PreSignedUrlCache(minioAdapter, properties, meterRegistry));
+    }
+
+    @Test
+    void expiredUrlIsSignedAgain() {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/CGM", 1)).thenReturn("url-1", "url-2");
+        final PreSignedUrlCache preSignedUrlCache = createCache(Duration.ofMinutes(30), Duration.ZERO);
+
+        Assertions.assertEquals("url-1", preSignedUrlCache.getPreSignedUrl("/CGM"));
+        advance(Duration.ofMinutes(29));
+        Assertions.assertEquals("url-1", preSignedUrlCache.getPreSignedUrl("/CGM"));
+        advance(Duration.ofMinutes(2));
+        Assertions.assertEquals("url-2", preSignedUrlCache.getPreSignedUrl("/CGM"));
+
+        Mockito.verify(minioAdapter, Mockito.times(2)).generatePreSignedUrlFromFullMinioPath("/CGM", 1);
+    }
+
+    @Test
+    void urlWithoutMinimumRemainingLifetimeIsNotHandedBack() {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/CGM", 1)).thenReturn("url-1", "url-2");
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/GLSK", 1)).thenReturn("url-3", "url-4");
+        final PreSignedUrlCache longLivedUrls = createCache(Duration.ofMinutes(30), Duration.ZERO);
+        final PreSignedUrlCache shortLivedUrls = createCache(Duration.ofMinutes(45), Duration.ZERO);
+        longLivedUrls.getPreSignedUrl("/CGM");
+        shortLivedUrls.getPreSignedUrl("/GLSK");
+
+        advance(Duration.ofMinutes(20));
+
+        // 40 minutes of lifetime left: enough for the first cache, not for the second one
+        Assertions.assertEquals("url-1", longLivedUrls.getPreSignedUrl("/CGM"));
+        Assertions.assertEquals("url-4", shortLivedUrls.getPreSignedUrl("/GLSK"));
+    }
+
+    @Test
+    void urlIsSignedAgainInTheBackgroundBeforeItsEviction() {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/CGM", 1)).thenReturn("url-1", "url-2");
+        final PreSignedUrlCache preSignedUrlCache = createCache(Duration.ofMinutes(30), Duration.ofMinutes(10));
+        preSignedUrlCache.getPreSignedUrl("/CGM");
+
+        advance(Duration.ofMinutes(19));
+        Assertions.assertEquals("url-1", preSignedUrlCache.getPreSignedUrl("/CGM"));
+        runBackgroundTasks();
+        Mockito.verify(minioAdapter, Mockito.times(1)).generatePreSignedUrlFromFullMinioPath("/CGM", 1);
+
+        advance(Duration.ofMinutes(2));
+        // The URL still has its minimum remaining lifetime and is handed back while it is signed again
+        Assertions.assertEquals("url-1", preSignedUrlCache.getPreSignedUrl("/CGM"));
+        Mockito.verify(minioAdapter, Mockito.times(1)).generatePreSignedUrlFromFullMinioPath("/CGM", 1);
+        runBackgroundTasks();
+        Assertions.assertEquals("url-2", preSignedUrlCache.getPreSignedUrl("/CGM"));
+        Mockito.verify(minioAdapter, Mockito.times(2)).generatePreSignedUrlFromFullMinioPath("/CGM", 1);
+
+        advance(Duration.ofMinutes(25));
+        // Signed again 21 minutes in, the new URL is not evicted 46 minutes in
+        Assertions.assertEquals("url-2", preSignedUrlCache.getPreSignedUrl("/CGM"));
+        Mockito.verify(minioAdapter, Mockito.times(2)).generatePreSignedUrlFromFullMinioPath("/CGM", 1);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.minio;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PreSignedUrlCacheProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.UrlSigningProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PreSignedUrlGeneratorTest {
+
+    private final MinioAdapter minioAdapter = Mockito.mock(MinioAdapter.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PreSignedUrlCache preSignedUrlCache = new PreSignedUrlCache(
+            minioAdapter,
+            new PreSignedUrlCacheProperties(false, 10, Duration.ofHours(1), Duration.ofMinutes(30), Duration.ofMinutes(10)),
+            meterRegistry);
+    private final CoreValidIntradayAdapterMetrics metrics = new CoreValidIntradayAdapterMetrics(meterRegistry);
+    private PreSignedUrlGenerator preSignedUrlGenerator;
+
+    private static ProcessFileDto processFile(final String fileType) {
+        return new ProcessFileDto("/" + fileType, fileType, ProcessFileStatus.VALIDATED, fileType.toLowerCase(), null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        preSignedUrlGenerator.shutdown();
+    }
+
+    @Test
+    void generatePreSignedUrlsConcurrently() {
+        preSignedUrlGenerator = new PreSignedUrlGenerator(preSignedUrlCache, new UrlSigningProperties(3, Duration.ofSeconds(5)), metrics);
+        final CountDownLatch allSigningsStarted = new CountDownLatch(3);
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(Mockito.anyString(), Mockito.eq(1))).thenAnswer(invocation -> {
+            allSigningsStarted.countDown();
+            // Only completes if the three files are signed at the same time
+            Assertions.assertTrue(allSigningsStarted.await(5, TimeUnit.SECONDS));
+            return "url:" + invocation.getArgument(0);
+        });
+
+        final Map<String, String> urls = preSignedUrlGenerator.generatePreSignedUrls(
+                List.of(processFile("CGM"), processFile("GLSK"), processFile("CNEC-RAM"), processFile("CGM")));
+
+        Assertions.assertEquals(Map.of("/CGM", "url:/CGM", "/GLSK", "url:/GLSK", "/CNEC-RAM", "url:/CNEC-RAM"), urls);
+        Mockito.verify(minioAdapter, Mockito.times(1)).generatePreSignedUrlFromFullMinioPath("/CGM", 1);
+        Assertions.assertEquals(1, meterRegistry.get("core.valid.intraday.adapter.url.signing").tag("file.type", "GLSK").timer().count());
+    }
+
+    @Test
+    void generatePreSignedUrlsFailsWhenOneFileCannotBeSigned() {
+        preSignedUrlGenerator = new PreSignedUrlGenerator(preSignedUrlCache, new UrlSigningProperties(7, Duration.ofSeconds(5)), metrics);
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/CGM", 1)).thenReturn("url:/CGM");
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/GLSK", 1)).thenThrow(new IllegalStateException("MinIO unavailable"));
+        final List<ProcessFileDto> processFiles = List.of(processFile("CGM"), processFile("GLSK"));
+
+        final CoreValidIntradayAdapterException exception = Assertions.assertThrows(
+                CoreValidIntradayAdapterException.class,
+                () -> preSignedUrlGenerator.generatePreSignedUrls(processFiles));
+        Assertions.assertEquals("Failed to generate pre-signed URL for file /GLSK", exception.getMessage());
+    }
+
+    @Test
+    void generatePreSignedUrlsFailsWhenTimeoutIsExceeded() throws InterruptedException {
+        preSignedUrlGenerator = new PreSignedUrlGenerator(preSignedUrlCache, new UrlSigningProperties(7, Duration.ofMillis(50)), metrics);
+        final CountDownLatch signingReleased = new CountDownLatch(1);
+        final CountDownLatch signingCancelled = new CountDownLatch(1);
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("/CGM", 1)).thenAnswer(invocation -> {
+            // Never released, the signature only ends when it gets cancelled
+            try {
+                signingReleased.await();
+            } catch (final InterruptedException e) {
+                signingCancelled.countDown();
+                throw e;
+            }
+            return "url:/CGM";
+        });
+        final List<ProcessFileDto> processFiles = List.of(processFile("CGM"));
+
+        final CoreValidIntradayAdapterException exception = Assertions.assertThrows(
+                CoreValidIntradayAdapterException.class,
+                () -> preSignedUrlGenerator.generatePreSignedUrls(processFiles));
+        Assertions.assertTrue(exception.getMessage().startsWith("Pre-signed URLs generation did not complete within PT0.05S"));
+        Assertions.assertTrue(signingCancelled.await(5, TimeUnit.SECONDS));
+    }
+}
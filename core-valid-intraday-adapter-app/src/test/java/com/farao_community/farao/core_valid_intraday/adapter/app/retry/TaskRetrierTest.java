@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.retry;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayInvalidTaskException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.RetryProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.UnknownFileTypeException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TaskRetrierTest {
+
+    private static final String DEAD_LETTER_DESTINATION = "core-valid-intraday-dead-letter";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StreamBridge streamBridge = Mockito.mock(StreamBridge.class);
+    private final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2025-10-02T14:30Z"), TaskStatus.READY,
+                                                List.of(), null, List.of(), List.of(), List.of(), List.of());
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private TaskRetrier createRetrier(final String deadLetterDestination) {
+        final RetryProperties properties = new RetryProperties(true, 3, Duration.ofMillis(10), 2.0, Duration.ofMillis(100), 0.5, deadLetterDestination);
+        return new TaskRetrier(properties, streamBridge, new CoreValidIntradayAdapterMetrics(meterRegistry));
+    }
+
+    private Runnable failingHandler(final int failures, final RuntimeException failure) {
+        return () -> {
+            if (attempts.incrementAndGet() <= failures) {
+                throw failure;
+            }
+        };
+    }
+
+    private double outcomeCount(final String outcome) {
+        return meterRegistry.get("core.valid.intraday.adapter.retry.outcomes").tag("launch.type", "automatic").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void transientFailureIsRetriedUntilSuccess() {
+        final TaskRetrier taskRetrier = createRetrier(DEAD_LETTER_DESTINATION);
+
+        taskRetrier.execute(taskDto, true, failingHandler(2, new CoreValidIntradayAdapterException("MinIO unavailable")));
+
+        Assertions.assertEquals(3, attempts.get());
+        Assertions.assertEquals(1.0, outcomeCount(TaskRetrier.RECOVERED));
+        Assertions.assertEquals(2.0, meterRegistry.get("core.valid.intraday.adapter.retry.attempts").counter().count());
+        Mockito.verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    void permanentFailureIsDeadLetteredWithoutRetry() {
+        Mockito.when(streamBridge.send(Mockito.eq(DEAD_LETTER_DESTINATION), Mockito.any())).thenReturn(true);
+        final TaskRetrier taskRetrier = createRetrier(DEAD_LETTER_DESTINATION);
+        final RuntimeException failure = new CoreValidIntradayAdapterException("Error during handling", new CoreValidIntradayInvalidTaskException("No run history"));
+
+        taskRetrier.execute(taskDto, true, failingHandler(1, failure));
+
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertEquals(1.0, outcomeCount(TaskRetrier.PERMANENT_FAILURE));
+        final ArgumentCaptor<Message<?>> deadLetter = ArgumentCaptor.captor();
+        Mockito.verify(streamBridge).send(Mockito.eq(DEAD_LETTER_DESTINATION), deadLetter.capture());
+        Assertions.assertSame(taskDto, deadLetter.getValue().getPayload());
+        Assertions.assertEquals(TaskRetrier.PERMANENT_FAILURE, deadLetter.getValue().getHeaders().get(TaskRetrier.FAILURE_REASON_HEADER));
+        Assertions.assertEquals(1, deadLetter.getValue().getHeaders().get(TaskRetrier.ATTEMPTS_HEADER));
+    }
+
+    @Test
+    void exhaustedTransientFailureIsDeadLettered() {
+        Mockito.when(streamBridge.send(Mockito.eq(DEAD_LETTER_DESTINATION), Mockito.any())).thenReturn(true);
+        final TaskRetrier taskRetrier = createRetrier(DEAD_LETTER_DESTINATION);
+
+        taskRetrier.execute(taskDto, true, failingHandler(5, new CoreValidIntradayAdapterException("Runner unavailable")));
+
+        Assertions.assertEquals(3, attempts.get());
+        Assertions.assertEquals(1.0, outcomeCount(TaskRetrier.EXHAUSTED));
+        Mockito.verify(streamBridge).send(Mockito.eq(DEAD_LETTER_DESTINATION), Mockito.any());
+    }
+
+    @Test
+    void failureIsThrownBackWithoutDeadLetterDestination() {
+        final TaskRetrier taskRetrier = createRetrier(null);
+        final RuntimeException failure = new UnknownFileTypeException("REF-PROG");
+        final Runnable handler = failingHandler(1, failure);
+
+        Assertions.assertSame(failure, Assertions.assertThrows(UnknownFileTypeException.class, () -> taskRetrier.execute(taskDto, true, handler)));
+        Assertions.assertEquals(1.0, outcomeCount(TaskRetrier.PERMANENT_FAILURE));
+    }
+
+    @Test
+    void asynchronousTransientFailureIsRetriedUntilSuccess() {
+        final TaskRetrier taskRetrier = createRetrier(DEAD_LETTER_DESTINATION);
+        final CompletableFuture<Void> secondAttempt = new CompletableFuture<>();
+
+        taskRetrier.execute(taskDto, true, () -> attempts.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(new CoreValidIntradayAdapterException("Runner unavailable"))
+                : secondAttempt);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> attempts.get() == 2);
+        secondAttempt.complete(null);
+
+        Assertions.assertEquals(1.0, outcomeCount(TaskRetrier.RECOVERED));
+        Mockito.verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    void exhaustedAsynchronousFailureIsDeadLetteredWithItsMessage() {
+        Mockito.when(streamBridge.send(Mockito.eq(DEAD_LETTER_DESTINATION), Mockito.any())).thenReturn(true);
+        final TaskRetrier taskRetrier = createRetrier(DEAD_LETTER_DESTINATION);
+
+        taskRetrier.execute(taskDto, true, () -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new CompletionException(new CoreValidIntradayAdapterException("Runner unavailable")));
+        });
+
+        final ArgumentCaptor<Message<?>> deadLetter = ArgumentCaptor.captor();
+        Mockito.verify(streamBridge, Mockito.timeout(5000)).send(Mockito.eq(DEAD_LETTER_DESTINATION), deadLetter.capture());
+        Assertions.assertEquals(3, attempts.get());
+        Assertions.assertEquals(1.0, outcomeCount(TaskRetrier.EXHAUSTED));
+        Assertions.assertEquals("Runner unavailable", deadLetter.getValue().getHeaders().get(TaskRetrier.EXCEPTION_MESSAGE_HEADER));
+        Assertions.assertEquals(3, deadLetter.getValue().getHeaders().get(TaskRetrier.ATTEMPTS_HEADER));
+    }
+
+    @Test
+    void reportedFailureIsDeadLetteredOnItsOwn() {
+        Mockito.when(streamBridge.send(Mockito.eq(DEAD_LETTER_DESTINATION), Mockito.any())).thenReturn(true);
+        final TaskRetrier taskRetrier = createRetrier(DEAD_LETTER_DESTINATION);
+
+        taskRetrier.reportFailure(taskDto, false, new CoreValidIntradayAdapterException("Runner unavailable"));
+
+        final ArgumentCaptor<Message<?>> deadLetter = ArgumentCaptor.captor();
+        Mockito.verify(streamBridge).send(Mockito.eq(DEAD_LETTER_DESTINATION), deadLetter.capture());
+        Assertions.assertSame(taskDto, deadLetter.getValue().getPayload());
+        Assertions.assertEquals(TaskRetrier.EXHAUSTED, deadLetter.getValue().getHeaders().get(TaskRetrier.FAILURE_REASON_HEADER));
+        Assertions.assertEquals(3, deadLetter.getValue().getHeaders().get(TaskRetrier.ATTEMPTS_HEADER));
+        Assertions.assertEquals("manual", deadLetter.getValue().getHeaders().get(TaskRetrier.LAUNCH_TYPE_HEADER));
+    }
+
+    @Test
+    void reportedFailureIsNotThrownWhenItCannotBeDeadLettered() {
+        final TaskRetrier taskRetrier = createRetrier(DEAD_LETTER_DESTINATION);
+        final RuntimeException failure = new UnknownFileTypeException("REF-PROG");
+
+        Assertions.assertDoesNotThrow(() -> taskRetrier.reportFailure(taskDto, true, failure));
+        Assertions.assertDoesNotThrow(() -> createRetrier(null).reportFailure(taskDto, true, failure));
+        Mockito.verify(streamBridge).send(Mockito.eq(DEAD_LETTER_DESTINATION), Mockito.any());
+    }
+
+    @Test
+    void backoffGrowsExponentiallyWithinJitterAndBounds() {
+        final TaskRetrier taskRetrier = createRetrier(null);
+
+        Assertions.assertTrue(taskRetrier.getBackoffMillis(1) >= 5 && taskRetrier.getBackoffMillis(1) <= 10);
+        Assertions.assertTrue(taskRetrier.getBackoffMillis(3) >= 20 && taskRetrier.getBackoffMillis(3) <= 40);
+        Assertions.assertTrue(taskRetrier.getBackoffMillis(10) >= 50 && taskRetrier.getBackoffMillis(10) <= 100);
+    }
+}
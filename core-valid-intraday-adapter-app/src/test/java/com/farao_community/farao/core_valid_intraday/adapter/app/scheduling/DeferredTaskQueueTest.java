@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.scheduling;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DeferredRecheckProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.taskmanager.TaskManagerClient;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class DeferredTaskQueueTest {
+
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2025-10-02T14:30Z");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskManagerClient taskManagerClient = Mockito.mock(TaskManagerClient.class);
+    private final Queue<TaskDto> handledTasks = new ConcurrentLinkedQueue<>();
+    private DeferredTaskQueue deferredTaskQueue;
+
+    @AfterEach
+    void tearDown() {
+        deferredTaskQueue.shutdown();
+    }
+
+    private void createQueue(final boolean enabled, final Duration deadline, final int maxParkedTasks) {
+        final DeferredRecheckProperties properties = new DeferredRecheckProperties(enabled, Duration.ofMillis(20), deadline, maxParkedTasks,
+                                                                                   "http://task-manager/tasks/", Duration.ofSeconds(1));
+        deferredTaskQueue = new DeferredTaskQueue(properties, taskManagerClient, meterRegistry);
+    }
+
+    private static TaskDto createTaskDto(final UUID taskId, final TaskStatus status) {
+        return new TaskDto(taskId, TIMESTAMP, status, List.of(), null, List.of(), List.of(), List.of(), List.of());
+    }
+
+    private double count(final String name) {
+        return meterRegistry.get("core.valid.intraday.adapter.deferred." + name).counter().count();
+    }
+
+    @Test
+    void parkedTaskIsHandledOnceReady() {
+        createQueue(true, Duration.ofSeconds(10), 10);
+        final UUID taskId = UUID.randomUUID();
+        final TaskDto readyTask = createTaskDto(taskId, TaskStatus.READY);
+        Mockito.when(taskManagerClient.getTask(TIMESTAMP)).thenReturn(createTaskDto(taskId, TaskStatus.CREATED), readyTask);
+
+        deferredTaskQueue.park(createTaskDto(taskId, TaskStatus.CREATED), true, handledTasks::add);
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> !handledTasks.isEmpty());
+        Assertions.assertEquals(List.of(readyTask), List.copyOf(handledTasks));
+        Assertions.assertEquals(0, deferredTaskQueue.getParkedCount());
+        Assertions.assertEquals(2.0, count("rechecks"));
+        Assertions.assertEquals(1.0, count("released"));
+    }
+
+    @Test
+    void parkedTaskIsDroppedAfterDeadline() {
+        createQueue(true, Duration.ofMillis(100), 10);
+        final UUID taskId = UUID.randomUUID();
+        Mockito.when(taskManagerClient.getTask(TIMESTAMP)).thenReturn(createTaskDto(taskId, TaskStatus.CREATED));
+
+        deferredTaskQueue.park(createTaskDto(taskId, TaskStatus.CREATED), false, handledTasks::add);
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> count("expired") == 1.0);
+        Assertions.assertEquals(0, deferredTaskQueue.getParkedCount());
+        Assertions.assertTrue(handledTasks.isEmpty());
+    }
+
+    @Test
+    void newerMessageSupersedesParkedOne() {
+        createQueue(true, Duration.ofSeconds(10), 10);
+        final UUID taskId = UUID.randomUUID();
+        Mockito.when(taskManagerClient.getTask(TIMESTAMP)).thenReturn(createTaskDto(taskId, TaskStatus.CREATED));
+        final Queue<TaskDto> supersededHandler = new ConcurrentLinkedQueue<>();
+
+        deferredTaskQueue.park(createTaskDto(taskId, TaskStatus.CREATED), true, supersededHandler::add);
+        deferredTaskQueue.park(createTaskDto(taskId, TaskStatus.CREATED), true, handledTasks::add);
+        Assertions.assertEquals(1, deferredTaskQueue.getParkedCount());
+
+        deferredTaskQueue.discard(createTaskDto(taskId, TaskStatus.READY));
+        Assertions.assertEquals(0, deferredTaskQueue.getParkedCount());
+        Assertions.assertEquals(2.0, count("superseded"));
+    }
+
+    @Test
+    void parkingIsBounded() {
+        createQueue(true, Duration.ofSeconds(10), 1);
+        Mockito.when(taskManagerClient.getTask(TIMESTAMP)).thenReturn(createTaskDto(UUID.randomUUID(), TaskStatus.CREATED));
+
+        deferredTaskQueue.park(createTaskDto(UUID.randomUUID(), TaskStatus.CREATED), true, handledTasks::add);
+        deferredTaskQueue.park(createTaskDto(UUID.randomUUID(), TaskStatus.CREATED), true, handledTasks::add);
+
+        Assertions.assertEquals(1, deferredTaskQueue.getParkedCount());
+        Assertions.assertEquals(1.0, count("rejected"));
+    }
+
+    @Test
+    void parkingBoundHoldsUnderConcurrentParking() throws InterruptedException {
+        createQueue(true, Duration.ofSeconds(10), 5);
+        Mockito.when(taskManagerClient.getTask(TIMESTAMP)).thenReturn(createTaskDto(UUID.randomUUID(), TaskStatus.CREATED));
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService senders = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 50; i++) {
+            senders.execute(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                deferredTaskQueue.park(createTaskDto(UUID.randomUUID(), TaskStatus.CREATED), true, handledTasks::add);
+            });
+        }
+        start.countDown();
+        senders.shutdown();
+        Assertions.assertTrue(senders.awaitTermination(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(5, deferredTaskQueue.getParkedCount());
+        Assertions.assertEquals(45.0, count("rejected"));
+    }
+
+    @Test
+    void placeIsFreedOnceParkedTaskIsDiscarded() {
+        createQueue(true, Duration.ofSeconds(10), 1);
+        final TaskDto parkedTask = createTaskDto(UUID.randomUUID(), TaskStatus.CREATED);
+        final TaskDto otherTask = createTaskDto(UUID.randomUUID(), TaskStatus.CREATED);
+
+        deferredTaskQueue.park(parkedTask, true, handledTasks::add);
+        deferredTaskQueue.discard(parkedTask);
+        deferredTaskQueue.park(otherTask, true, handledTasks::add);
+
+        Assertions.assertEquals(1, deferredTaskQueue.getParkedCount());
+        Assertions.assertEquals(0.0, count("rejected"));
+    }
+
+    @Test
+    void nothingIsParkedWhenDisabled() {
+        createQueue(false, Duration.ofSeconds(10), 10);
+
+        deferredTaskQueue.park(createTaskDto(UUID.randomUUID(), TaskStatus.CREATED), true, handledTasks::add);
+
+        Assertions.assertEquals(0, deferredTaskQueue.getParkedCount());
+        Mockito.verifyNoInteractions(taskManagerClient);
+    }
+}
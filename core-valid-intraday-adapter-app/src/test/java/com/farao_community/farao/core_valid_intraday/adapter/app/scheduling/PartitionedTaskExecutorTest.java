@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.scheduling;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PartitioningProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PartitionedTaskExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService listenerThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch firstTaskReleased = new CountDownLatch(1);
+    private final Queue<String> handledTasks = new ConcurrentLinkedQueue<>();
+    private PartitionedTaskExecutor partitionedExecutor;
+
+    @AfterEach
+    void tearDown() {
+        firstTaskReleased.countDown();
+        listenerThreads.close();
+        partitionedExecutor.shutdown();
+    }
+
+    private static TaskDto createTaskDto(final OffsetDateTime timestamp) {
+        return new TaskDto(UUID.randomUUID(), timestamp, TaskStatus.READY, List.of(), null, List.of(), List.of(), List.of(), List.of());
+    }
+
+    private double partitionLag(final int partition) {
+        return meterRegistry.get("core.valid.intraday.adapter.partition.lag").tag("partition", String.valueOf(partition)).gauge().value();
+    }
+
+    @Test
+    void messagesOfSameTimestampAreHandledInOrderWhileOtherTimestampsProceed() throws InterruptedException {
+        partitionedExecutor = new PartitionedTaskExecutor(new PartitioningProperties(4), new CoreValidIntradayAdapterMetrics(meterRegistry), meterRegistry);
+        final TaskDto firstRun = createTaskDto(OffsetDateTime.parse("2025-10-02T14:30Z"));
+        final TaskDto secondRun = createTaskDto(OffsetDateTime.parse("2025-10-02T16:30+02:00"));
+        OffsetDateTime otherTimestamp = OffsetDateTime.parse("2025-10-02T15:30Z");
+        while (partitionedExecutor.getPartition(createTaskDto(otherTimestamp)) == partitionedExecutor.getPartition(firstRun)) {
+            otherTimestamp = otherTimestamp.plusHours(1);
+        }
+        final TaskDto otherTask = createTaskDto(otherTimestamp);
+        final int partition = partitionedExecutor.getPartition(firstRun);
+
+        final CountDownLatch firstTaskStarted = new CountDownLatch(1);
+        final CompletableFuture<Void> firstExecution = CompletableFuture.runAsync(() -> partitionedExecutor.execute(firstRun, () -> {
+            firstTaskStarted.countDown();
+            try {
+                firstTaskReleased.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handledTasks.add("first-run");
+        }), listenerThreads);
+        Assertions.assertTrue(firstTaskStarted.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<Void> secondExecution = CompletableFuture.runAsync(
+                () -> partitionedExecutor.execute(secondRun, () -> handledTasks.add("second-run")), listenerThreads);
+        await().until(() -> partitionLag(partition) == 1.0);
+
+        partitionedExecutor.execute(otherTask, () -> handledTasks.add("other-timestamp"));
+        Assertions.assertEquals(List.of("other-timestamp"), List.copyOf(handledTasks));
+
+        firstTaskReleased.countDown();
+        CompletableFuture.allOf(firstExecution, secondExecution).orTimeout(5, TimeUnit.SECONDS).join();
+        Assertions.assertEquals(List.of("other-timestamp", "first-run", "second-run"), List.copyOf(handledTasks));
+        Assertions.assertEquals(3, meterRegistry.get("core.valid.intraday.adapter.partition.wait").timers().stream().mapToLong(Timer::count).sum());
+    }
+
+    @Test
+    void failuresAreThrownBackToCaller() {
+        partitionedExecutor = new PartitionedTaskExecutor(new PartitioningProperties(2), new CoreValidIntradayAdapterMetrics(meterRegistry), meterRegistry);
+        final TaskDto taskDto = createTaskDto(OffsetDateTime.parse("2025-10-02T14:30Z"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> partitionedExecutor.execute(taskDto, () -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    void messageIsHandledOnListenerThreadWhenPartitioningIsDisabled() {
+        partitionedExecutor = new PartitionedTaskExecutor(new PartitioningProperties(0), new CoreValidIntradayAdapterMetrics(meterRegistry), meterRegistry);
+        final Thread listenerThread = Thread.currentThread();
+
+        partitionedExecutor.execute(createTaskDto(OffsetDateTime.parse("2025-10-02T14:30Z")),
+                                    () -> Assertions.assertSame(listenerThread, Thread.currentThread()));
+    }
+}
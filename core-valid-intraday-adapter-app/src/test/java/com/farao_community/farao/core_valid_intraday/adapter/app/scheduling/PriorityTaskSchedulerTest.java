@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.scheduling;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.SchedulingProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PriorityTaskSchedulerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch blockerReleased = new CountDownLatch(1);
+    private final Queue<String> handledTasks = new ConcurrentLinkedQueue<>();
+    private final List<CompletableFuture<Void>> submissions = new ArrayList<>();
+    private PriorityTaskScheduler taskScheduler;
+
+    @AfterEach
+    void tearDown() {
+        blockerReleased.countDown();
+        executor.close();
+    }
+
+    private void createScheduler(final SchedulingProperties.Policy policy, final int maxConcurrency, final int automaticConcurrency) {
+        final SchedulingProperties properties = new SchedulingProperties(true, maxConcurrency, policy, 1, maxConcurrency, automaticConcurrency);
+        taskScheduler = new PriorityTaskScheduler(properties, new CoreValidIntradayAdapterMetrics(meterRegistry), meterRegistry);
+    }
+
+    /**
+     * Occupies a slot until the blocker is released, which only happens once the test has queued its run requests.
+     */
+    private void submitBlocker(final boolean isLaunchedAutomatically) throws InterruptedException {
+        final CountDownLatch blockerStarted = new CountDownLatch(1);
+        executor.execute(() -> taskScheduler.execute(isLaunchedAutomatically, () -> {
+            blockerStarted.countDown();
+            try {
+                blockerReleased.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        Assertions.assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+    }
+
+    private void submitAndWaitForQueueing(final boolean isLaunchedAutomatically, final String name) {
+        final String launchType = isLaunchedAutomatically ? "automatic" : "manual";
+        final double queueDepth = queueDepth(launchType);
+        submissions.add(CompletableFuture.runAsync(() -> taskScheduler.execute(isLaunchedAutomatically, () -> handledTasks.add(name)), executor));
+        await().until(() -> queueDepth(launchType) == queueDepth + 1);
+    }
+
+    private void awaitSubmissions() {
+        CompletableFuture.allOf(submissions.toArray(CompletableFuture<?>[]::new)).orTimeout(5, TimeUnit.SECONDS).join();
+    }
+
+    private double queueDepth(final String launchType) {
+        return meterRegistry.get("core.valid.intraday.adapter.scheduling.queue.depth").tag("launch.type", launchType).gauge().value();
+    }
+
+    @Test
+    void manualRequestsPreemptAutomaticBacklogWithStrictPolicy() throws InterruptedException {
+        createScheduler(SchedulingProperties.Policy.STRICT, 1, 1);
+        submitBlocker(true);
+        submitAndWaitForQueueing(true, "automatic-1");
+        submitAndWaitForQueueing(true, "automatic-2");
+        submitAndWaitForQueueing(false, "manual-1");
+        submitAndWaitForQueueing(false, "manual-2");
+
+        blockerReleased.countDown();
+
+        awaitSubmissions();
+        Assertions.assertEquals(List.of("manual-1", "manual-2", "automatic-1", "automatic-2"), List.copyOf(handledTasks));
+        Assertions.assertEquals(2, meterRegistry.get("core.valid.intraday.adapter.scheduling.wait").tag("launch.type", "manual").timer().count());
+    }
+
+    @Test
+    void automaticRequestsGetTheirTurnWithWeightedPolicy() throws InterruptedException {
+        createScheduler(SchedulingProperties.Policy.WEIGHTED, 1, 1);
+        submitBlocker(false);
+        submitAndWaitForQueueing(false, "manual-1");
+        submitAndWaitForQueueing(false, "manual-2");
+        submitAndWaitForQueueing(true, "automatic-1");
+
+        blockerReleased.countDown();
+
+        awaitSubmissions();
+        Assertions.assertEquals(List.of("manual-1", "automatic-1", "manual-2"), List.copyOf(handledTasks));
+    }
+
+    @Test
+    void automaticConcurrencyLimitLeavesCapacityToManualRequests() throws InterruptedException {
+        createScheduler(SchedulingProperties.Policy.STRICT, 4, 1);
+        submitBlocker(true);
+        submitAndWaitForQueueing(true, "automatic-1");
+
+        taskScheduler.execute(false, () -> handledTasks.add("manual-1"));
+
+        Assertions.assertEquals(List.of("manual-1"), List.copyOf(handledTasks));
+        Assertions.assertEquals(1.0, queueDepth("automatic"));
+    }
+
+    @Test
+    void taskIsRunRightAwayWhenSchedulingIsDisabled() {
+        final SchedulingProperties properties = new SchedulingProperties(false, 1, SchedulingProperties.Policy.STRICT, 1, 1, 1);
+        taskScheduler = new PriorityTaskScheduler(properties, new CoreValidIntradayAdapterMetrics(meterRegistry), meterRegistry);
+
+        taskScheduler.execute(true, () -> handledTasks.add("automatic-1"));
+
+        Assertions.assertEquals(List.of("automatic-1"), List.copyOf(handledTasks));
+    }
+}
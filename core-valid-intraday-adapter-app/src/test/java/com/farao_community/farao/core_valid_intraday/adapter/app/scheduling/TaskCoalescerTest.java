@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.scheduling;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.CoalescingProperties;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Releases are driven by hand through a fake timer and ticker, senders running on their own threads.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class TaskCoalescerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Queue<TaskDto> handledTasks = new ConcurrentLinkedQueue<>();
+    private final BlockingQueue<ScheduledRelease> scheduledReleases = new LinkedBlockingQueue<>();
+    private final AtomicLong ticker = new AtomicLong();
+    private final ExecutorService senders = Executors.newCachedThreadPool();
+    private TaskCoalescer taskCoalescer;
+
+    private record ScheduledRelease(Runnable release, long delay) {
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (taskCoalescer != null) {
+            taskCoalescer.shutdown();
+        }
+        senders.shutdownNow();
+    }
+
+    private void createTaskCoalescer(final Duration quietWindow, final Duration maximumWait, final int maximumPending) {
+        taskCoalescer = new TaskCoalescer(new CoalescingProperties(quietWindow, maximumWait, maximumPending), 4, meterRegistry, createTimer(), ticker::get);
+    }
+
+    private ScheduledExecutorService createTimer() {
+        final ScheduledExecutorService timer = Mockito.mock(ScheduledExecutorService.class);
+        Mockito.when(timer.schedule(Mockito.any(Runnable.class), Mockito.anyLong(), Mockito.eq(TimeUnit.NANOSECONDS))).thenAnswer(invocation -> {
+            scheduledReleases.add(new ScheduledRelease(invocation.getArgument(0), invocation.getArgument(1)));
+            return Mockito.mock(ScheduledFuture.class);
+        });
+        return timer;
+    }
+
+    private static TaskDto createTaskDto(final UUID taskId, final UUID runId) {
+        final List<ProcessRunDto> runHistory = List.of(new ProcessRunDto(runId, OffsetDateTime.now(), List.of()));
+        return new TaskDto(taskId, OffsetDateTime.parse("2025-10-02T14:30Z"), TaskStatus.READY, List.of(), null, List.of(), List.of(), runHistory, List.of());
+    }
+
+    private CompletableFuture<Void> send(final TaskDto taskDto, final Consumer<TaskDto> handler) {
+        return CompletableFuture.runAsync(() -> taskCoalescer.submit(taskDto, handler), senders);
+    }
+
+    private ScheduledRelease nextRelease() throws InterruptedException {
+        final ScheduledRelease scheduledRelease = scheduledReleases.poll(5, TimeUnit.SECONDS);
+        Assertions.assertNotNull(scheduledRelease);
+        return scheduledRelease;
+    }
+
+    @Test
+    void burstOfIdenticalMessagesIsHandledOnceAfterItsQuietWindow() throws InterruptedException {
+        createTaskCoalescer(Duration.ofSeconds(10), Duration.ofMinutes(1), 10);
+        final UUID taskId = UUID.randomUUID();
+        final UUID runId = UUID.randomUUID();
+        final TaskDto first = createTaskDto(taskId, runId);
+        final TaskDto second = createTaskDto(taskId, runId);
+
+        final CompletableFuture<Void> firstSending = send(first, handledTasks::add);
+        final ScheduledRelease firstRelease = nextRelease();
+        final CompletableFuture<Void> secondSending = send(second, handledTasks::add);
+        final ScheduledRelease secondRelease = nextRelease();
+        // The release of the superseded message has no effect
+        firstRelease.release().run();
+
+        Assertions.assertFalse(firstSending.isDone());
+        Assertions.assertFalse(secondSending.isDone());
+        secondRelease.release().run();
+        CompletableFuture.allOf(firstSending, secondSending).orTimeout(5, TimeUnit.SECONDS).join();
+        Assertions.assertEquals(List.of(second), List.copyOf(handledTasks));
+        Assertions.assertEquals(Duration.ofSeconds(10).toNanos(), secondRelease.delay());
+        Assertions.assertEquals(1.0, meterRegistry.get("core.valid.intraday.adapter.coalescing.collapsed").counter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("core.valid.intraday.adapter.coalescing.released").counter().count());
+    }
+
+    @Test
+    void handlingFailureIsPropagatedToEverySender() throws InterruptedException {
+        createTaskCoalescer(Duration.ofSeconds(10), Duration.ofMinutes(1), 10);
+        final UUID taskId = UUID.randomUUID();
+        final UUID runId = UUID.randomUUID();
+        final IllegalStateException failure = new IllegalStateException("Runner unavailable");
+        final Consumer<TaskDto> failingHandler = taskDto -> {
+            throw failure;
+        };
+
+        final CompletableFuture<Void> firstSending = send(createTaskDto(taskId, runId), failingHandler);
+        nextRelease();
+        final CompletableFuture<Void> secondSending = send(createTaskDto(taskId, runId), failingHandler);
+        nextRelease().release().run();
+
+        for (final CompletableFuture<Void> sending : List.of(firstSending, secondSending)) {
+            final CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> sending.orTimeout(5, TimeUnit.SECONDS).join());
+            Assertions.assertSame(failure, exception.getCause());
+        }
+    }
+
+    @Test
+    void messagesOfDifferentRunsAreNotCoalesced() throws InterruptedException {
+        createTaskCoalescer(Duration.ofSeconds(10), Duration.ofMinutes(1), 10);
+        final UUID taskId = UUID.randomUUID();
+
+        final CompletableFuture<Void> firstSending = send(createTaskDto(taskId, UUID.randomUUID()), handledTasks::add);
+        final ScheduledRelease firstRelease = nextRelease();
+        final CompletableFuture<Void> secondSending = send(createTaskDto(taskId, UUID.randomUUID()), handledTasks::add);
+        final ScheduledRelease secondRelease = nextRelease();
+        firstRelease.release().run();
+        secondRelease.release().run();
+
+        CompletableFuture.allOf(firstSending, secondSending).orTimeout(5, TimeUnit.SECONDS).join();
+        Assertions.assertEquals(2, handledTasks.size());
+        Assertions.assertEquals(0.0, meterRegistry.get("core.valid.intraday.adapter.coalescing.collapsed").counter().count());
+    }
+
+    @Test
+    void identicalMessagesCannotPostponeTheReleaseBeyondTheMaximumWait() throws InterruptedException {
+        createTaskCoalescer(Duration.ofSeconds(10), Duration.ofSeconds(15), 10);
+        final UUID taskId = UUID.randomUUID();
+        final UUID runId = UUID.randomUUID();
+
+        send(createTaskDto(taskId, runId), handledTasks::add);
+        Assertions.assertEquals(Duration.ofSeconds(10).toNanos(), nextRelease().delay());
+        ticker.set(Duration.ofSeconds(8).toNanos());
+        send(createTaskDto(taskId, runId), handledTasks::add);
+        Assertions.assertEquals(Duration.ofSeconds(7).toNanos(), nextRelease().delay());
+        ticker.set(Duration.ofSeconds(16).toNanos());
+        send(createTaskDto(taskId, runId), handledTasks::add);
+        Assertions.assertEquals(0, nextRelease().delay());
+    }
+
+    @Test
+    void messageIsHandledRightAwayWhenTooManyTasksArePending() throws InterruptedException {
+        createTaskCoalescer(Duration.ofSeconds(10), Duration.ofMinutes(1), 1);
+        final TaskDto pendingTask = createTaskDto(UUID.randomUUID(), UUID.randomUUID());
+        final TaskDto otherTask = createTaskDto(UUID.randomUUID(), UUID.randomUUID());
+
+        final CompletableFuture<Void> pendingSending = send(pendingTask, handledTasks::add);
+        nextRelease();
+        taskCoalescer.submit(otherTask, handledTasks::add);
+
+        Assertions.assertEquals(List.of(otherTask), List.copyOf(handledTasks));
+        Assertions.assertFalse(pendingSending.isDone());
+        Assertions.assertEquals(1.0, meterRegistry.get("core.valid.intraday.adapter.coalescing.overflow").counter().count());
+    }
+
+    @Test
+    void pendingMessagesAreHandledOnShutdown() throws InterruptedException {
+        createTaskCoalescer(Duration.ofSeconds(10), Duration.ofMinutes(1), 10);
+        final TaskDto taskDto = createTaskDto(UUID.randomUUID(), UUID.randomUUID());
+
+        final CompletableFuture<Void> sending = send(taskDto, handledTasks::add);
+        nextRelease();
+        taskCoalescer.shutdown();
+
+        sending.orTimeout(5, TimeUnit.SECONDS).join();
+        Assertions.assertEquals(List.of(taskDto), List.copyOf(handledTasks));
+    }
+
+    @Test
+    void messageIsHandledImmediatelyWhenCoalescingIsDisabled() {
+        createTaskCoalescer(Duration.ZERO, Duration.ofMinutes(1), 10);
+        final TaskDto taskDto = createTaskDto(UUID.randomUUID(), UUID.randomUUID());
+
+        taskCoalescer.submit(taskDto, handledTasks::add);
+
+        Assertions.assertEquals(List.of(taskDto), List.copyOf(handledTasks));
+        Assertions.assertTrue(scheduledReleases.isEmpty());
+    }
+
+    @Test
+    void coalescingRefusesToStartWithASingleListenerThread() {
+        final CoalescingProperties properties = new CoalescingProperties(Duration.ofSeconds(2), Duration.ofMinutes(1), 10);
+        final ScheduledExecutorService timer = createTimer();
+
+        final CoreValidIntradayAdapterException exception = Assertions.assertThrows(CoreValidIntradayAdapterException.class,
+                                                                                      () -> new TaskCoalescer(properties, 1, meterRegistry, timer, ticker::get));
+        Assertions.assertEquals("Coalescing requires several listener threads on consumeAutoTask-in-0 to collapse identical messages, its concurrency is 1",
+                                exception.getMessage());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app.taskmanager;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.CoreValidIntradayAdapterException;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DeferredRecheckProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TaskManagerClientTest {
+
+    private final MockServerRestTemplateCustomizer mockServerCustomizer = new MockServerRestTemplateCustomizer();
+    private final TaskManagerClient taskManagerClient = new TaskManagerClient(createProperties(true, "http://task-manager/tasks/"),
+                                                                              new RestTemplateBuilder(mockServerCustomizer));
+
+    private static DeferredRecheckProperties createProperties(final boolean enabled, final String taskManagerTimestampUrl) {
+        return new DeferredRecheckProperties(enabled, Duration.ofSeconds(30), Duration.ofMinutes(30), 10, taskManagerTimestampUrl, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void timestampIsEncodedInTaskUrl() {
+        final OffsetDateTime timestamp = OffsetDateTime.parse("2025-10-02T16:30+02:00");
+        final MockRestServiceServer server = mockServerCustomizer.getServer();
+        server.expect(requestTo("http://task-manager/tasks/2025-10-02T16%3A30%2B02%3A00"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withServerError());
+
+        Assertions.assertThrows(CoreValidIntradayAdapterException.class, () -> taskManagerClient.getTask(timestamp));
+        server.verify();
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", " ", "task-manager/tasks/", "ftp://task-manager/tasks/", "http://task manager/tasks/"})
+    void invalidTaskManagerTimestampUrlIsRejectedWhenRecheckIsEnabled(final String taskManagerTimestampUrl) {
+        final DeferredRecheckProperties properties = createProperties(true, taskManagerTimestampUrl);
+        final RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder();
+
+        Assertions.assertThrows(CoreValidIntradayAdapterException.class, () -> new TaskManagerClient(properties, restTemplateBuilder));
+    }
+
+    @Test
+    void missingTaskManagerTimestampUrlIsAcceptedWhenRecheckIsDisabled() {
+        Assertions.assertDoesNotThrow(() -> new TaskManagerClient(createProperties(false, null), new RestTemplateBuilder()));
+    }
+}
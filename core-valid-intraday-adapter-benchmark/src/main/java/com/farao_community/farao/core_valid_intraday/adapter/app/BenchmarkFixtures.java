@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.AdmissionProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.CoalescingProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DeferredRecheckProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.DispatchProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.FileTypeProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PartitioningProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PreSignedUrlCacheProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PreflightProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.RetryProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.RunIndexProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.SchedulingProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.UrlSigningProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.dispatch.AdmissionController;
+import com.farao_community.farao.core_valid_intraday.adapter.app.dispatch.CoreValidIntradayRequestDispatcher;
+import com.farao_community.farao.core_valid_intraday.adapter.app.dispatch.DispatchedRunIndex;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.CoreValidIntradayRequestMapper;
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.FileTypeRegistry;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.core_valid_intraday.adapter.app.minio.InputPreflightChecker;
+import com.farao_community.farao.core_valid_intraday.adapter.app.minio.PreSignedUrlCache;
+import com.farao_community.farao.core_valid_intraday.adapter.app.minio.PreSignedUrlGenerator;
+import com.farao_community.farao.core_valid_intraday.adapter.app.retry.TaskRetrier;
+import com.farao_community.farao.core_valid_intraday.adapter.app.scheduling.DeferredTaskQueue;
+import com.farao_community.farao.core_valid_intraday.adapter.app.scheduling.PartitionedTaskExecutor;
+import com.farao_community.farao.core_valid_intraday.adapter.app.scheduling.PriorityTaskScheduler;
+import com.farao_community.farao.core_valid_intraday.adapter.app.scheduling.TaskCoalescer;
+import com.farao_community.farao.core_valid_intraday.adapter.app.taskmanager.TaskManagerClient;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa_core_valid_intraday.starter.CoreValidIntradayClient;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Builds the adapter with stubbed MinIO and runner clients, and synthetic tasks of configurable size.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class BenchmarkFixtures {
+
+    static final List<String> FILE_TYPES = List.of("CNEC-RAM", "VERTICE", "CGM", "GLSK", "MERGED-CNEC", "MARKET-POINT", "PRA");
+    static final String IGNORED_SUFFIX = "-ARCHIVE";
+    static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2025-10-02T14:30Z");
+
+    private BenchmarkFixtures() {
+        // utility class
+    }
+
+    @SuppressWarnings("unchecked")
+    static CoreValidIntradayAdapterListener createListener(final boolean urlCacheEnabled) {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final CoreValidIntradayAdapterMetrics metrics = new CoreValidIntradayAdapterMetrics(meterRegistry);
+        final MinioAdapter minioAdapter = Mockito.mock(MinioAdapter.class);
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(Mockito.anyString(), Mockito.anyInt()))
+                .thenAnswer(invocation -> "https://minio.benchmark" + invocation.getArgument(0));
+        final PreSignedUrlCache preSignedUrlCache = new PreSignedUrlCache(
+                minioAdapter,
+                new PreSignedUrlCacheProperties(urlCacheEnabled, 10_000, Duration.ofHours(1), Duration.ofMinutes(30), Duration.ofMinutes(10)),
+                meterRegistry);
+        final PreSignedUrlGenerator preSignedUrlGenerator = new PreSignedUrlGenerator(
+                preSignedUrlCache,
+                new UrlSigningProperties(7, Duration.ofSeconds(30)),
+                metrics);
+        final InputPreflightChecker inputPreflightChecker = new InputPreflightChecker(new PreflightProperties(false, null, Duration.ZERO, 0, Duration.ZERO),
+                                                                                      Mockito.mock(ObjectProvider.class),
+                                                                                      metrics,
+                                                                                      meterRegistry);
+        final CoreValidIntradayRequestDispatcher requestDispatcher = new CoreValidIntradayRequestDispatcher(
+                Mockito.mock(CoreValidIntradayClient.class),
+                new DispatchProperties(false, 1),
+                new AdmissionController(new AdmissionProperties(false, 1, 1, 1, Duration.ZERO, 0.0, 1.0), new DispatchProperties(false, 1), metrics, meterRegistry),
+                metrics,
+                meterRegistry);
+        final DispatchedRunIndex dispatchedRunIndex = new DispatchedRunIndex(new RunIndexProperties(false, 0, ZoneOffset.UTC, 0, Duration.ZERO),
+                                                                             metrics);
+        final TaskCoalescer taskCoalescer = new TaskCoalescer(new CoalescingProperties(Duration.ZERO, Duration.ZERO, 0), new BindingServiceProperties(), meterRegistry);
+        final PriorityTaskScheduler taskScheduler = new PriorityTaskScheduler(new SchedulingProperties(false, 1, SchedulingProperties.Policy.STRICT, 1, 1, 1),
+                                                                              metrics,
+                                                                              meterRegistry);
+        final PartitionedTaskExecutor partitionedExecutor = new PartitionedTaskExecutor(new PartitioningProperties(0), metrics, meterRegistry);
+        final TaskRetrier taskRetrier = new TaskRetrier(new RetryProperties(false, 1, Duration.ZERO, 1.0, Duration.ZERO, 0.0, null),
+                                                        Mockito.mock(StreamBridge.class),
+                                                        metrics);
+        final DeferredTaskQueue deferredTaskQueue = new DeferredTaskQueue(new DeferredRecheckProperties(false, Duration.ZERO, Duration.ZERO, 0, null, Duration.ZERO),
+                                                                          Mockito.mock(TaskManagerClient.class),
+                                                                          meterRegistry);
+        return new CoreValidIntradayAdapterListener(requestDispatcher, dispatchedRunIndex, createRequestMapper(metrics), inputPreflightChecker,
+                                                    preSignedUrlGenerator, taskCoalescer, partitionedExecutor, taskRetrier, deferredTaskQueue, taskScheduler, metrics);
+    }
+
+    static CoreValidIntradayRequestMapper createRequestMapper(final CoreValidIntradayAdapterMetrics metrics) {
+        // Inputs beyond the first of each type are created under their own file type, ignored by the mapper
+        final Set<String> ignoredFileTypes = new HashSet<>();
+        for (final String fileType : FILE_TYPES) {
+            ignoredFileTypes.add(fileType + IGNORED_SUFFIX);
+        }
+        return new CoreValidIntradayRequestMapper(new FileTypeRegistry(new FileTypeProperties(Map.of(), ignoredFileTypes, Set.of())), metrics);
+    }
+
+    /**
+     * @return the given number of inputs, cycling over the known file types with a distinct path for each input.
+     * Only the first input of each file type is sent to the runner, the other ones are ignored.
+     */
+    static List<ProcessFileDto> createInputs(final int inputCount) {
+        final List<ProcessFileDto> inputs = new ArrayList<>(inputCount);
+        for (int i = 0; i < inputCount; i++) {
+            final String fileType = FILE_TYPES.get(i % FILE_TYPES.size()) + (i < FILE_TYPES.size() ? "" : IGNORED_SUFFIX);
+            inputs.add(new ProcessFileDto("/inputs/%s/%d".formatted(fileType, i), fileType, ProcessFileStatus.VALIDATED, fileType + "-" + i, "doc" + i, TIMESTAMP));
+        }
+        return inputs;
+    }
+
+    /**
+     * @return a run history of the given size, in random order of execution date
+     */
+    static List<ProcessRunDto> createRunHistory(final int runHistorySize, final Random random) {
+        final List<ProcessRunDto> runHistory = new ArrayList<>(runHistorySize);
+        for (int i = 0; i < runHistorySize; i++) {
+            runHistory.add(new ProcessRunDto(UUID.randomUUID(), TIMESTAMP.plusMinutes(i), List.of()));
+        }
+        Collections.shuffle(runHistory, random);
+        return runHistory;
+    }
+
+    static TaskDto createTaskDto(final List<ProcessFileDto> inputs, final List<ProcessRunDto> runHistory) {
+        return new TaskDto(UUID.randomUUID(), TIMESTAMP, TaskStatus.READY, inputs, null, List.of(), List.of(), runHistory, List.of());
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so that allocation rates are reported along with
+ * throughput and latency. Accepts the usual JMH command line options.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@SuppressWarnings("hideutilityclassconstructor")
+public class BenchmarkRunner {
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                           .parent(new CommandLineOptions(args))
+                           .addProfiler(GCProfiler.class)
+                           .build())
+                .run();
+    }
+}
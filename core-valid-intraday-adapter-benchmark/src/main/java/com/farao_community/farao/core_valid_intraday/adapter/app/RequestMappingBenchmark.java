@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa_core_valid_intraday.api.resource.CoreValidIntradayRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns a synthetic task into a runner request, inputs being signed through a stubbed MinIO adapter.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestMappingBenchmark {
+
+    @Param({"7", "70", "700"})
+    public int inputCount;
+
+    @Param({"10"})
+    public int runHistorySize;
+
+    @Param({"true", "false"})
+    public boolean urlCacheEnabled;
+
+    private CoreValidIntradayAdapterListener listener;
+    private TaskDto taskDto;
+
+    @Setup
+    public void setUp() {
+        listener = BenchmarkFixtures.createListener(urlCacheEnabled);
+        taskDto = BenchmarkFixtures.createTaskDto(BenchmarkFixtures.createInputs(inputCount),
+                                                  BenchmarkFixtures.createRunHistory(runHistorySize, new Random(42)));
+    }
+
+    @Benchmark
+    public CoreValidIntradayRequest getCoreValidIntradayRequest() {
+        return listener.getCoreValidIntradayRequest(taskDto, true);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.mapping.CoreValidIntradayRequestMapper;
+import com.farao_community.farao.core_valid_intraday.adapter.app.metrics.CoreValidIntradayAdapterMetrics;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the current run of synthetic tasks whose run history grows as long-lived timestamps get rerun.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RunIdResolutionBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int runHistorySize;
+
+    private CoreValidIntradayRequestMapper requestMapper;
+    private TaskDto taskDto;
+
+    @Setup
+    public void setUp() {
+        requestMapper = BenchmarkFixtures.createRequestMapper(new CoreValidIntradayAdapterMetrics(new SimpleMeterRegistry()));
+        taskDto = BenchmarkFixtures.createTaskDto(List.of(), BenchmarkFixtures.createRunHistory(runHistorySize, new Random(42)));
+    }
+
+    @Benchmark
+    public String getCurrentRunId() {
+        return requestMapper.getCurrentRunId(taskDto, true);
+    }
+}
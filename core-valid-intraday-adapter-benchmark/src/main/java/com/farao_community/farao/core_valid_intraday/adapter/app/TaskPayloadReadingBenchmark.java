@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_valid_intraday.adapter.app;
+
+import com.farao_community.farao.core_valid_intraday.adapter.app.configuration.PayloadProjectionProperties;
+import com.farao_community.farao.core_valid_intraday.adapter.app.messaging.TaskDtoProjectionConverter;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads inbound task payloads whose run history grows as long-lived timestamps get rerun, each run recording
+ * its inputs, either bound as a whole or read as a projection. Allocation rates are reported by the GC profiler
+ * of {@link BenchmarkRunner}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPayloadReadingBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int runHistorySize;
+
+    private ObjectMapper objectMapper;
+    private TaskDtoProjectionConverter projectionConverter;
+    private byte[] payload;
+    private Message<byte[]> message;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        projectionConverter = new TaskDtoProjectionConverter(new PayloadProjectionProperties(true), objectMapper);
+        final List<ProcessRunDto> runHistory = new ArrayList<>(runHistorySize);
+        for (int i = 0; i < runHistorySize; i++) {
+            runHistory.add(new ProcessRunDto(UUID.randomUUID(), BenchmarkFixtures.TIMESTAMP.plusMinutes(i),
+                                             BenchmarkFixtures.createInputs(BenchmarkFixtures.FILE_TYPES.size())));
+        }
+        final TaskDto taskDto = BenchmarkFixtures.createTaskDto(BenchmarkFixtures.createInputs(BenchmarkFixtures.FILE_TYPES.size()), runHistory);
+        payload = objectMapper.writeValueAsBytes(taskDto);
+        message = MessageBuilder.withPayload(payload).build();
+    }
+
+    @Benchmark
+    public TaskDto bindWholeTask() throws IOException {
+        return objectMapper.readValue(payload, TaskDto.class);
+    }
+
+    @Benchmark
+    public Object readTaskProjection() {
+        return projectionConverter.fromMessage(message, TaskDto.class);
+    }
+}